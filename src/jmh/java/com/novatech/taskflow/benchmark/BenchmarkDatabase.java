@@ -0,0 +1,96 @@
+package com.novatech.taskflow.benchmark;
+
+import com.novatech.taskflow.config.MigrationRunner;
+import com.novatech.taskflow.dao.TaskDAOImpl;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskStatus;
+import com.novatech.taskflow.util.DateUtil;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Embedded H2 database shared by the benchmarks in one JMH fork
+ */
+public final class BenchmarkDatabase {
+
+    private static final String URL = "jdbc:h2:mem:taskflow-bench;DB_CLOSE_DELAY=-1;MODE=MySQL";
+    private static int loadedRows = -1;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Point DatabaseConfig at H2, apply the migrations and load a fixed number of tasks.
+     * Must run before anything touches DatabaseConfig.
+     * @param rows The number of tasks to load
+     */
+    public static synchronized void init(int rows) {
+        if (loadedRows == rows) {
+            return;
+        }
+        if (loadedRows >= 0) {
+            throw new IllegalStateException("Database already loaded with " + loadedRows + " rows");
+        }
+
+        System.setProperty("jdbc.url", URL);
+        System.setProperty("jdbc.driver", "org.h2.Driver");
+        System.setProperty("jdbc.username", "sa");
+        System.setProperty("jdbc.password", "");
+        System.setProperty("cache.enabled", "false");
+
+        try (Connection conn = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = conn.createStatement()) {
+            new MigrationRunner(conn, 0).migrate();
+            statement.execute("DELETE FROM tasks");
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Failed to prepare benchmark database: " + e.getMessage(), e);
+        }
+
+        TaskDAOImpl taskDAO = new TaskDAOImpl();
+        Date today = DateUtil.today();
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Task> batch = new ArrayList<>();
+
+        for (int i = 0; i < rows; i++) {
+            // Due dates spread over 60 days around today so range filters match a realistic share
+            Task task = new Task("Task " + i, "Benchmark task number " + i + " with a short description",
+                    DateUtil.addDays(today, i % 60 - 30));
+            task.setStatus(statuses[i % statuses.length]);
+            batch.add(task);
+
+            if (batch.size() == 1000) {
+                taskDAO.createAll(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        taskDAO.createAll(batch);
+
+        loadedRows = rows;
+    }
+
+    /**
+     * Create in-memory tasks without touching the database
+     * @param count The number of tasks
+     * @return The tasks
+     */
+    public static List<Task> sampleTasks(int count) {
+        Date today = DateUtil.today();
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Task> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Task task = new Task((long) i + 1, "Task " + i, "Benchmark \"task\" number " + i,
+                    DateUtil.addDays(today, i % 60 - 30), statuses[i % statuses.length]);
+            tasks.add(task);
+        }
+
+        return tasks;
+    }
+}
@@ -0,0 +1,62 @@
+package com.novatech.taskflow.benchmark;
+
+import com.novatech.taskflow.util.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil parsing and formatting, run from several threads like servlet requests
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DateUtilBenchmark {
+
+    private final Date date = new Date(1_700_000_000_000L);
+    private final Date now = new Date();
+
+    @Benchmark
+    public Date parseDate() {
+        return DateUtil.parseDate("2026-10-17");
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtil.formatDate(date);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtil.formatDateTime(date);
+    }
+
+    @Benchmark
+    public Date stripTimeToday() {
+        return DateUtil.stripTime(now);
+    }
+
+    @Benchmark
+    public Date stripTimeOtherDay() {
+        return DateUtil.stripTime(date);
+    }
+
+    @Benchmark
+    public boolean isToday() {
+        return DateUtil.isToday(date);
+    }
+}
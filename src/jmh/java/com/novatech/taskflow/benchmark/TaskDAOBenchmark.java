@@ -0,0 +1,63 @@
+package com.novatech.taskflow.benchmark;
+
+import com.novatech.taskflow.dao.TaskDAO;
+import com.novatech.taskflow.dao.TaskDAOImpl;
+import com.novatech.taskflow.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping in TaskDAOImpl against an embedded H2 database
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDAOBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private TaskDAO taskDAO;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.init(ROWS);
+        taskDAO = new TaskDAOImpl();
+    }
+
+    @Benchmark
+    public Task getById() {
+        id = id % ROWS + 1;
+        return taskDAO.getById(id);
+    }
+
+    @Benchmark
+    public List<Task> getPageOf1000() {
+        return taskDAO.getPage(null, null, 1000);
+    }
+
+    @Benchmark
+    public List<Task> getAll() {
+        return taskDAO.getAll();
+    }
+
+    @Benchmark
+    public void forEachStreaming(Blackhole blackhole) {
+        taskDAO.forEach(null, blackhole::consume);
+    }
+}
@@ -0,0 +1,73 @@
+package com.novatech.taskflow.benchmark;
+
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.util.DateUtil;
+import com.novatech.taskflow.util.TaskJsonWriter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of task lists as done by TaskRestServlet
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class TaskJsonBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkDatabase.sampleTasks(size);
+    }
+
+    /**
+     * Current path: TaskJsonWriter streaming straight to the response writer
+     */
+    @Benchmark
+    public void streamingWriter() throws IOException {
+        new TaskJsonWriter(Writer.nullWriter()).writeArray(tasks);
+    }
+
+    /**
+     * Previous path: build a JSONArray tree, then a String of the whole document
+     */
+    @Benchmark
+    public String jsonArrayTree() {
+        JSONArray jsonArray = new JSONArray();
+        for (Task task : tasks) {
+            JSONObject json = new JSONObject();
+            json.put("id", task.getId());
+            json.put("title", task.getTitle());
+            json.put("description", task.getDescription() != null ? task.getDescription() : "");
+            json.put("dueDate", DateUtil.formatDate(task.getDueDate()));
+            json.put("status", task.getStatus().name());
+            json.put("createdAt", DateUtil.formatDateTime(task.getCreatedAt()));
+            json.put("updatedAt", DateUtil.formatDateTime(task.getUpdatedAt()));
+            jsonArray.put(json);
+        }
+        return jsonArray.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.novatech.taskflow.benchmark;
+
+import com.novatech.taskflow.dao.TaskDAOImpl;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.service.TaskService;
+import com.novatech.taskflow.service.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overdue and due-today filters in TaskServiceImpl against an embedded H2 database
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private TaskService taskService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.init(10_000);
+        taskService = new TaskServiceImpl(new TaskDAOImpl());
+    }
+
+    @Benchmark
+    public List<Task> overdueTasks() {
+        return taskService.getOverdueTasks();
+    }
+
+    @Benchmark
+    public List<Task> tasksDueToday() {
+        return taskService.getTasksDueToday();
+    }
+
+    @Benchmark
+    public Object dashboardSummary() {
+        return taskService.getDashboardSummary();
+    }
+}
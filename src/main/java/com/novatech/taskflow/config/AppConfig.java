@@ -1,4 +1,91 @@
 package com.novatech.taskflow.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Application settings.
+ * Values are read from taskflow.properties on the classpath and can be
+ * overridden with JVM system properties of the same name.
+ */
 public class AppConfig {
+
+    private static final String CONFIG_FILE = "/taskflow.properties";
+    private static Properties properties = new Properties();
+
+    // Initialize properties on class load
+    static {
+        try (InputStream input = AppConfig.class.getResourceAsStream(CONFIG_FILE)) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load application configuration: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get a setting as a string
+     * @param key The setting name
+     * @param defaultValue The value to use if the setting is absent
+     * @return The configured value or the default
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Get a setting as an int
+     * @param key The setting name
+     * @param defaultValue The value to use if the setting is absent
+     * @return The configured value or the default
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Get a setting as a long
+     * @param key The setting name
+     * @param defaultValue The value to use if the setting is absent
+     * @return The configured value or the default
+     */
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    /**
+     * Get a setting as a boolean
+     * @param key The setting name
+     * @param defaultValue The value to use if the setting is absent
+     * @return The configured value or the default
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Get every setting whose name starts with a prefix
+     * @param prefix The common start of the setting names, e.g. "pool."
+     * @return The matching settings, with system properties overriding the file
+     */
+    public static Properties getProperties(String prefix) {
+        Properties matching = new Properties();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                matching.setProperty(key, properties.getProperty(key).trim());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                matching.setProperty(key, System.getProperty(key).trim());
+            }
+        }
+        return matching;
+    }
 }
@@ -0,0 +1,69 @@
+package com.novatech.taskflow.config;
+
+import com.novatech.taskflow.controller.AsyncDispatcher;
+import com.novatech.taskflow.dao.TaskDAOFactory;
+import com.novatech.taskflow.service.TaskArchiver;
+import com.novatech.taskflow.service.TaskEventBroadcaster;
+import com.novatech.taskflow.service.TaskSearchIndex;
+import com.novatech.taskflow.service.TaskWriteBehindQueue;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Application lifecycle hooks
+ */
+@WebListener
+public class AppContextListener implements ServletContextListener {
+
+    /**
+     * Bring the schema up to date, schedule archiving, then load the search index
+     * in the background so startup is not held up by a table scan
+     */
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        if (AppConfig.getBoolean("migration.enabled", true)) {
+            try (Connection conn = DatabaseConfig.getConnection()) {
+                int applied = new MigrationRunner(conn, AppConfig.getInt("migration.baselineVersion", 0)).migrate();
+                sce.getServletContext().log("Applied " + applied + " database migration(s)");
+            } catch (SQLException | IOException e) {
+                throw new IllegalStateException("Database migration failed: " + e.getMessage(), e);
+            }
+        }
+
+        if (AppConfig.getBoolean("archive.enabled", true)) {
+            TaskArchiver.getInstance().start();
+        }
+
+        if (AppConfig.getBoolean("search.rebuildOnStartup", true)) {
+            Thread.ofVirtual().name("taskflow-search-rebuild").start(() -> {
+                try {
+                    TaskSearchIndex.getInstance().rebuild(TaskDAOFactory.getTaskDAO());
+                } catch (RuntimeException e) {
+                    sce.getServletContext().log("Error building search index: " + e.getMessage(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Release shared resources when the application is undeployed
+     */
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        if (AppConfig.getBoolean("archive.enabled", true)) {
+            TaskArchiver.getInstance().shutdown();
+        }
+        TaskEventBroadcaster.getInstance().shutdown();
+        AsyncDispatcher.shutdown();
+        if (AppConfig.getBoolean("writeBehind.enabled", false)) {
+            // Commit queued creates while the pool is still open
+            TaskWriteBehindQueue.getInstance().shutdown();
+        }
+        DatabaseConfig.shutdown();
+    }
+}
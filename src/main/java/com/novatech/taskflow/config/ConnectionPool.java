@@ -0,0 +1,520 @@
+package com.novatech.taskflow.config;
+
+import com.novatech.taskflow.metrics.MetricsRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded JDBC connection pool.
+ * Connections are handed out as proxies whose close() returns the physical
+ * connection to the pool instead of closing it. Each physical connection keeps
+ * its most recently used prepared statements open (pool.statementCacheSize).
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(ConnectionPool.class);
+
+    /** Prepared statements kept open per connection unless pool.statementCacheSize says otherwise */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
+    private final String url;
+    private final Properties connectionProperties;
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final int validationTimeoutSeconds;
+    private final long validationBypassMs;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledEntry> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LatencyRecorder acquireLatency = new LatencyRecorder(1024);
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder statementCacheEvictions = new LongAdder();
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Create a pool from configuration properties
+     * @param url The JDBC URL
+     * @param connectionProperties Properties passed to the driver (user, password, ...)
+     * @param config Pool settings (pool.* keys)
+     */
+    public ConnectionPool(String url, Properties connectionProperties, Properties config) {
+        this.url = url;
+        this.connectionProperties = connectionProperties;
+        this.minSize = intProperty(config, "pool.minSize", 2);
+        this.maxSize = Math.max(1, intProperty(config, "pool.maxSize", 10));
+        this.acquireTimeoutMs = longProperty(config, "pool.acquireTimeoutMs", 30_000L);
+        this.idleTimeoutMs = longProperty(config, "pool.idleTimeoutMs", 600_000L);
+        this.maxLifetimeMs = longProperty(config, "pool.maxLifetimeMs", 1_800_000L);
+        this.validationTimeoutSeconds = intProperty(config, "pool.validationTimeoutSeconds", 5);
+        this.validationBypassMs = longProperty(config, "pool.validationBypassMs", 500L);
+        this.statementCacheSize = intProperty(config, "pool.statementCacheSize", DEFAULT_STATEMENT_CACHE_SIZE);
+        this.permits = new Semaphore(maxSize, true);
+
+        long housekeepingIntervalMs = longProperty(config, "pool.housekeepingIntervalMs", 30_000L);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "taskflow-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, housekeepingIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection from the pool, waiting up to the acquire timeout
+     * @return A pooled connection; closing it returns it to the pool
+     * @throws SQLException if the pool is closed, exhausted or the database is unreachable
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                metrics.recordConnectionAcquireFailure();
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeoutMs + "ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledEntry entry = borrow(deadline);
+            active.incrementAndGet();
+            long elapsed = System.nanoTime() - start;
+            acquireLatency.record(elapsed);
+            metrics.recordConnectionAcquire(elapsed);
+            return entry.lease();
+        } catch (SQLException | RuntimeException e) {
+            metrics.recordConnectionAcquireFailure();
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Take a usable idle connection, or open a new one if the pool has room
+     */
+    private PooledEntry borrow(long deadline) throws SQLException {
+        while (true) {
+            PooledEntry entry = idle.pollFirst();
+            if (entry != null) {
+                if (isUsable(entry)) {
+                    return entry;
+                }
+                discard(entry);
+                continue;
+            }
+
+            if (total.incrementAndGet() <= maxSize) {
+                try {
+                    return new PooledEntry(DriverManager.getConnection(url, connectionProperties));
+                } catch (SQLException | RuntimeException e) {
+                    total.decrementAndGet();
+                    throw e;
+                }
+            }
+            total.decrementAndGet();
+
+            // Every physical connection is in use or being returned; wait for one
+            long remaining = deadline - System.nanoTime();
+            try {
+                entry = remaining > 0 ? idle.pollFirst(remaining, TimeUnit.NANOSECONDS) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+            }
+            if (entry == null) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeoutMs + "ms waiting for a database connection");
+            }
+            idle.offerFirst(entry);
+        }
+    }
+
+    /**
+     * Validate a connection before handing it out.
+     * Connections used within the last validationBypassMs are trusted without a round trip.
+     */
+    private boolean isUsable(PooledEntry entry) {
+        long now = System.currentTimeMillis();
+        if (now - entry.createdAt >= maxLifetimeMs) {
+            return false;
+        }
+        // A connection that raised an error during its last lease is always checked
+        if (now - entry.lastUsedAt < validationBypassMs && !entry.failed) {
+            return true;
+        }
+        try {
+            boolean valid = entry.connection.isValid(validationTimeoutSeconds);
+            entry.failed = false;
+            return valid;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Return a leased connection to the pool
+     */
+    private void release(PooledEntry entry) {
+        active.decrementAndGet();
+        try {
+            boolean expired = System.currentTimeMillis() - entry.createdAt >= maxLifetimeMs;
+            if (closed || entry.broken || expired || !reset(entry)) {
+                discard(entry);
+            } else {
+                entry.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(entry);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Restore per-connection state a borrower may have changed
+     */
+    private boolean reset(PooledEntry entry) {
+        try {
+            Connection connection = entry.connection;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledEntry entry) {
+        total.decrementAndGet();
+        if (entry.statements != null) {
+            entry.statements.close();
+        }
+        try {
+            entry.connection.close();
+        } catch (SQLException e) {
+            LOG.warn("Error closing pooled connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Periodic maintenance: evict idle and expired connections, then top up to minSize
+     */
+    private void housekeep() {
+        if (closed) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (PooledEntry entry : idle) {
+            boolean expired = now - entry.createdAt >= maxLifetimeMs;
+            boolean idleTooLong = now - entry.lastUsedAt >= idleTimeoutMs && total.get() > minSize;
+            if ((expired || idleTooLong) && idle.remove(entry)) {
+                discard(entry);
+            }
+        }
+
+        while (!closed && total.get() < minSize) {
+            if (total.incrementAndGet() > maxSize) {
+                total.decrementAndGet();
+                break;
+            }
+            try {
+                idle.offerLast(new PooledEntry(DriverManager.getConnection(url, connectionProperties)));
+            } catch (SQLException e) {
+                total.decrementAndGet();
+                LOG.error("Error filling connection pool: {}", e.getMessage());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Get a snapshot of the pool's current state
+     * @return Pool statistics
+     */
+    public PoolStats getStats() {
+        long[] percentiles = acquireLatency.percentiles(50, 95, 99);
+        return new PoolStats(
+                active.get(),
+                idle.size(),
+                total.get(),
+                maxSize,
+                permits.getQueueLength(),
+                acquireLatency.count(),
+                percentiles[0],
+                percentiles[1],
+                percentiles[2],
+                statementCacheHits.sum(),
+                statementCacheMisses.sum(),
+                statementCacheEvictions.sum()
+        );
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones.
+     * Leased connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            discard(entry);
+        }
+    }
+
+    private static int intProperty(Properties config, String key, int defaultValue) {
+        String value = config.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static long longProperty(Properties config, String key, long defaultValue) {
+        String value = config.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * A physical connection owned by the pool
+     */
+    private final class PooledEntry {
+        private final Connection connection;
+        private final long createdAt;
+        private final StatementCache statements;
+        private volatile long lastUsedAt;
+        private volatile boolean broken;
+        private volatile boolean failed;
+
+        private PooledEntry(Connection connection) {
+            this.connection = connection;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+            this.statements = statementCacheSize > 0
+                    ? new StatementCache(statementCacheSize, statementCacheHits, statementCacheMisses,
+                            statementCacheEvictions)
+                    : null;
+        }
+
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+
+        /**
+         * Record an error raised while the connection was leased
+         */
+        private void checkBroken(SQLException e) {
+            failed = true;
+            String state = e.getSQLState();
+            // SQLState class 08 means the connection itself failed
+            if (state != null && state.startsWith("08")) {
+                broken = true;
+            }
+        }
+    }
+
+    /**
+     * Proxy handler for a single lease of a pooled connection
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean returned;
+
+        private LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.connection + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            try {
+                Object result;
+                if (entry.statements != null && method.getName().equals("prepareStatement")
+                        && StatementCache.isCacheable(args)) {
+                    result = entry.statements.prepare(entry.connection, (Connection) proxy, method, args);
+                } else {
+                    result = method.invoke(entry.connection, args);
+                }
+                if (result instanceof Statement) {
+                    // Most dead links surface while executing, so statement errors must reach checkBroken too
+                    return watch(result, method.getReturnType(), proxy, entry);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    entry.checkBroken((SQLException) cause);
+                }
+                throw cause;
+            } catch (SQLException e) {
+                entry.checkBroken(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Wrap a statement or result set so the SQLExceptions it throws mark the connection
+     */
+    private static Object watch(Object target, Class<?> type, Object parent, PooledEntry entry) {
+        return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{type}, new FailureWatcher(target, parent, entry));
+    }
+
+    /**
+     * Proxy handler for a statement or result set of a leased connection.
+     * getConnection() and getStatement() return the caller's proxies, not the physical objects.
+     */
+    private static final class FailureWatcher implements InvocationHandler {
+        private final Object target;
+        private final Object parent;
+        private final PooledEntry entry;
+
+        private FailureWatcher(Object target, Object parent, PooledEntry entry) {
+            this.target = target;
+            this.parent = parent;
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                case "getStatement":
+                    if (method.getParameterCount() == 0) {
+                        return parent;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return target.toString();
+                default:
+                    break;
+            }
+
+            try {
+                Object result = method.invoke(target, args);
+                if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+                    return watch(result, ResultSet.class, proxy, entry);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    entry.checkBroken((SQLException) cause);
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * Fixed-size ring of recent latency samples used for percentile estimates
+     */
+    static final class LatencyRecorder {
+        private final long[] samples;
+        private final AtomicLong count = new AtomicLong();
+
+        LatencyRecorder(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        void record(long nanos) {
+            long index = count.getAndIncrement();
+            samples[(int) (index % samples.length)] = nanos;
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        /**
+         * Compute percentiles over the retained samples
+         * @return One value in microseconds per requested percentile
+         */
+        long[] percentiles(int... percentiles) {
+            int size = (int) Math.min(count.get(), samples.length);
+            long[] result = new long[percentiles.length];
+            if (size == 0) {
+                return result;
+            }
+
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            for (int i = 0; i < percentiles.length; i++) {
+                int rank = (int) Math.ceil(percentiles[i] / 100.0 * size) - 1;
+                result[i] = TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(0, Math.min(rank, size - 1))]);
+            }
+            return result;
+        }
+    }
+}
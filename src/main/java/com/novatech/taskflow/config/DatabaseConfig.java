@@ -1,26 +1,40 @@
 package com.novatech.taskflow.config;
 
+import com.novatech.taskflow.metrics.QueryTracer;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
- * Database configuration and connection management
+ * Database configuration and connection management.
+ *
+ * Reads can be spread over read replicas by listing them in jdbc.replicas, e.g.
+ * to try routing locally with two embedded H2 databases:
+ * -Djdbc.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1;MODE=MySQL
+ * -Djdbc.replicas=jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1;MODE=MySQL
+ *
+ * Pool sizing and timeouts (pool.*) are application settings read through AppConfig;
+ * a pool.* entry left in dbconfig.properties still applies unless overridden with -D.
  */
 public class DatabaseConfig {
 
     private static final String CONFIG_FILE = "/db/dbconfig.properties";
     private static Properties properties = new Properties();
+    private static Properties poolProperties = AppConfig.getProperties("pool.");
+    private static volatile boolean poolCreated;
+    private static final boolean TRACE_ENABLED = AppConfig.getBoolean("trace.enabled", true);
 
     // Initialize properties on class load
     static {
         try (InputStream input = DatabaseConfig.class.getResourceAsStream(CONFIG_FILE)) {
             if (input == null) {
                 // If config file not found, use default values for development
-                properties.setProperty("jdbc.url", "jdbc:mysql://127.0.0.1:3306/novatech");
+                properties.setProperty("jdbc.url", "jdbc:mysql://127.0.0.1:3306/novatech?rewriteBatchedStatements=true");
                 properties.setProperty("jdbc.username", "Emmanuel Arhu");
                 properties.setProperty("jdbc.password", "Password");
                 properties.setProperty("jdbc.driver", "com.mysql.cj.jdbc.Driver");
@@ -28,6 +42,20 @@ public class DatabaseConfig {
                 properties.load(input);
             }
 
+            // JVM system properties override the file, e.g. -Djdbc.url=... for local runs and benchmarks
+            for (String key : System.getProperties().stringPropertyNames()) {
+                if (key.startsWith("jdbc.")) {
+                    properties.setProperty(key, System.getProperty(key));
+                }
+            }
+
+            // Older deployments kept pool settings here; they win over taskflow.properties but not -D
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith("pool.") && System.getProperty(key) == null) {
+                    poolProperties.setProperty(key, properties.getProperty(key).trim());
+                }
+            }
+
             // Load JDBC driver
             try {
                 Class.forName(properties.getProperty("jdbc.driver"));
@@ -40,16 +68,104 @@ public class DatabaseConfig {
     }
 
     /**
-     * Get a database connection
-     * @return A new database connection
-     * @throws SQLException if a database access error occurs
+     * Lazily created pools so that loading this class never opens a connection
+     */
+    private static class PoolHolder {
+        private static final ConnectionPool POOL = createPool(properties.getProperty("jdbc.url"),
+                properties.getProperty("jdbc.username"), properties.getProperty("jdbc.password"));
+        private static final ReplicaRouter ROUTER = createRouter();
+
+        private static ConnectionPool createPool(String url, String username, String password) {
+            Properties connectionProperties = new Properties();
+            connectionProperties.setProperty("user", username);
+            connectionProperties.setProperty("password", password);
+            // The pool keeps statements open across calls, so server-side prepares are parsed once
+            // and then only executed; an explicit setting in the URL wins
+            int statementCacheSize = Integer.parseInt(poolProperties.getProperty("pool.statementCacheSize",
+                    String.valueOf(ConnectionPool.DEFAULT_STATEMENT_CACHE_SIZE)));
+            if (url.startsWith("jdbc:mysql:") && statementCacheSize > 0 && !url.contains("useServerPrepStmts")) {
+                connectionProperties.setProperty("useServerPrepStmts", "true");
+            }
+            poolCreated = true;
+            return new ConnectionPool(url, connectionProperties, poolProperties);
+        }
+
+        private static ReplicaRouter createRouter() {
+            List<ConnectionPool> replicas = new ArrayList<>();
+            String urls = properties.getProperty("jdbc.replicas", "");
+            for (String url : urls.split(",")) {
+                if (!url.trim().isEmpty()) {
+                    replicas.add(createPool(url.trim(),
+                            properties.getProperty("jdbc.replica.username", properties.getProperty("jdbc.username")),
+                            properties.getProperty("jdbc.replica.password", properties.getProperty("jdbc.password"))));
+                }
+            }
+            return new ReplicaRouter(POOL, replicas,
+                    Long.parseLong(properties.getProperty("jdbc.replica.stickyMs", "5000")),
+                    Long.parseLong(properties.getProperty("jdbc.replica.retryMs", "5000")));
+        }
+    }
+
+    /**
+     * Get a connection to the primary database, for writes and reads that must be current
+     * @return A pooled database connection, traced when trace.enabled is true; closing it returns it to the pool
+     * @throws SQLException if a database access error occurs or no connection is available in time
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(
-                properties.getProperty("jdbc.url"),
-                properties.getProperty("jdbc.username"),
-                properties.getProperty("jdbc.password")
-        );
+        Connection connection = PoolHolder.ROUTER.getPrimaryConnection();
+        return TRACE_ENABLED ? QueryTracer.wrap(connection) : connection;
+    }
+
+    /**
+     * Get a connection for reads that may lag slightly behind the primary.
+     * Served by a read replica from jdbc.replicas when one is configured and available,
+     * unless the current client wrote within the last jdbc.replica.stickyMs
+     * (see ReplicaRouter.recordWrite).
+     * @return A pooled database connection; closing it returns it to the pool
+     * @throws SQLException if a database access error occurs or no connection is available in time
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection connection = PoolHolder.ROUTER.getReadConnection();
+        return TRACE_ENABLED ? QueryTracer.wrap(connection) : connection;
+    }
+
+    /**
+     * Get the router that spreads reads over the replicas
+     * @return The replica router
+     */
+    public static ReplicaRouter getReplicaRouter() {
+        return PoolHolder.ROUTER;
+    }
+
+    /**
+     * Get live statistics for the connection pool
+     * @return A snapshot of the pool state
+     */
+    public static PoolStats getPoolStats() {
+        return PoolHolder.POOL.getStats();
+    }
+
+    /**
+     * Close the connection pools, releasing all idle connections
+     */
+    public static void shutdown() {
+        if (poolCreated) {
+            PoolHolder.ROUTER.close();
+        }
+    }
+
+    /**
+     * Get the fetch size to use for forward-only queries that stream large result sets.
+     * MySQL Connector/J only streams row by row when the fetch size is Integer.MIN_VALUE;
+     * other drivers honour a positive fetch size.
+     * @return The configured jdbc.streamFetchSize, or a driver-appropriate default
+     */
+    public static int getStreamingFetchSize() {
+        String configured = properties.getProperty("jdbc.streamFetchSize");
+        if (configured != null && !configured.trim().isEmpty()) {
+            return Integer.parseInt(configured.trim());
+        }
+        return properties.getProperty("jdbc.url", "").startsWith("jdbc:mysql:") ? Integer.MIN_VALUE : 500;
     }
 
     /**
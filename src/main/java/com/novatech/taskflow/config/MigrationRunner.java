@@ -0,0 +1,294 @@
+package com.novatech.taskflow.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Applies the db/migration/V{n}__{description}.sql scripts on the classpath in version order.
+ * Applied versions are recorded in the schema_history table so each script runs once per database.
+ *
+ * Runs against MySQL and against H2 in MODE=MySQL; the scripts only use syntax both accept.
+ * On MySQL a named lock keeps several instances starting at once from migrating together.
+ *
+ * A database set up before the runner existed has tables but no history. Set
+ * migration.baselineVersion to the last script it already has, and the scripts up to
+ * that version are recorded without being run.
+ */
+public class MigrationRunner {
+
+    private static final Logger LOG = LogManager.getLogger(MigrationRunner.class);
+
+    private static final String LOCATION = "db/migration";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String LOCK_NAME = "taskflow_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CREATE_HISTORY_TABLE =
+            "CREATE TABLE IF NOT EXISTS schema_history (" +
+            "version INT NOT NULL PRIMARY KEY, " +
+            "description VARCHAR(200) NOT NULL, " +
+            "script VARCHAR(255) NOT NULL, " +
+            "checksum BIGINT NOT NULL, " +
+            "execution_ms BIGINT NOT NULL, " +
+            "installed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+    private static final String SELECT_HISTORY =
+            "SELECT version, checksum FROM schema_history";
+    private static final String INSERT_HISTORY =
+            "INSERT INTO schema_history (version, description, script, checksum, execution_ms) VALUES (?, ?, ?, ?, ?)";
+    private static final String PROBE_TASKS_TABLE =
+            "SELECT 1 FROM tasks WHERE 1 = 0";
+
+    private final Connection connection;
+    private final int baselineVersion;
+
+    /**
+     * Constructor
+     * @param connection A connection to the primary database, used in autocommit mode
+     * @param baselineVersion Scripts up to this version are recorded without being run; 0 runs all
+     */
+    public MigrationRunner(Connection connection, int baselineVersion) {
+        this.connection = connection;
+        this.baselineVersion = baselineVersion;
+    }
+
+    /**
+     * Apply every script that is not yet in the schema history
+     * @return The number of scripts run
+     * @throws SQLException if a script fails; the scripts before it stay applied
+     * @throws IOException if the scripts cannot be read
+     */
+    public int migrate() throws SQLException, IOException {
+        List<Script> scripts = findScripts();
+        connection.setAutoCommit(true);
+
+        boolean mysql = !connection.getMetaData().getDatabaseProductName().startsWith("H2");
+        if (mysql) {
+            acquireLock();
+        }
+
+        // Embedded H2 lives in this JVM, so a class-wide lock is enough there
+        synchronized (MigrationRunner.class) {
+            try {
+                return apply(scripts);
+            } finally {
+                if (mysql) {
+                    releaseLock();
+                }
+            }
+        }
+    }
+
+    private int apply(List<Script> scripts) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_HISTORY_TABLE);
+        }
+
+        Map<Integer, Long> applied = readHistory();
+        if (applied.isEmpty() && baselineVersion == 0 && tasksTableExists()) {
+            throw new SQLException("The tasks table exists but schema_history is empty; "
+                    + "set migration.baselineVersion to the last migration this database already has");
+        }
+
+        int run = 0;
+        for (Script script : scripts) {
+            Long checksum = applied.get(script.version);
+            if (checksum != null) {
+                if (checksum != script.checksum) {
+                    LOG.warn("Migration {} has changed since it was applied", script.name);
+                }
+                continue;
+            }
+
+            if (script.version <= baselineVersion) {
+                record(script, 0);
+                LOG.info("Recorded migration {} as part of the baseline", script.name);
+                continue;
+            }
+
+            long start = System.currentTimeMillis();
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : script.statements()) {
+                    statement.execute(sql);
+                }
+            } catch (SQLException e) {
+                throw new SQLException("Migration " + script.name + " failed: " + e.getMessage(), e);
+            }
+            long elapsed = System.currentTimeMillis() - start;
+            record(script, elapsed);
+            run++;
+            LOG.info("Applied migration {} in {}ms", script.name, elapsed);
+        }
+        return run;
+    }
+
+    private Map<Integer, Long> readHistory() throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(SELECT_HISTORY)) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    private boolean tasksTableExists() {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PROBE_TASKS_TABLE)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void record(Script script, long executionMs) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_HISTORY)) {
+            ps.setInt(1, script.version);
+            ps.setString(2, script.description);
+            ps.setString(3, script.name);
+            ps.setLong(4, script.checksum);
+            ps.setLong(5, executionMs);
+            ps.executeUpdate();
+        }
+    }
+
+    private void acquireLock() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out after " + LOCK_TIMEOUT_SECONDS
+                            + "s waiting for another instance to finish migrating");
+                }
+            }
+        }
+    }
+
+    private void releaseLock() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * List the scripts in version order, from a directory or from inside a jar/war
+     */
+    private static List<Script> findScripts() throws IOException {
+        URL location = MigrationRunner.class.getClassLoader().getResource(LOCATION);
+        if (location == null) {
+            throw new IOException(LOCATION + " not found on the classpath");
+        }
+
+        URI uri;
+        try {
+            uri = location.toURI();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid migration location: " + location, e);
+        }
+
+        if ("jar".equals(uri.getScheme())) {
+            FileSystem fileSystem;
+            try {
+                fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
+            } catch (FileSystemAlreadyExistsException e) {
+                return readScripts(FileSystems.getFileSystem(uri).getPath(LOCATION));
+            }
+            try (FileSystem opened = fileSystem) {
+                return readScripts(opened.getPath(LOCATION));
+            }
+        }
+        return readScripts(Paths.get(uri));
+    }
+
+    private static List<Script> readScripts(Path directory) throws IOException {
+        List<Script> scripts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                String name = file.getFileName().toString();
+                Matcher matcher = SCRIPT_NAME.matcher(name);
+                if (matcher.matches()) {
+                    String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                    scripts.add(new Script(Integer.parseInt(matcher.group(1)),
+                            matcher.group(2).replace('_', ' '), name, sql));
+                }
+            }
+        }
+
+        scripts.sort(Comparator.comparingInt(script -> script.version));
+        for (int i = 1; i < scripts.size(); i++) {
+            if (scripts.get(i).version == scripts.get(i - 1).version) {
+                throw new IOException("Duplicate migration version: " + scripts.get(i).name);
+            }
+        }
+        return scripts;
+    }
+
+    /**
+     * One migration script
+     */
+    private static final class Script {
+        private final int version;
+        private final String description;
+        private final String name;
+        private final String sql;
+        private final long checksum;
+
+        private Script(int version, String description, String name, String sql) {
+            this.version = version;
+            this.description = description;
+            this.name = name;
+            this.sql = sql;
+
+            CRC32 crc = new CRC32();
+            crc.update(sql.getBytes(StandardCharsets.UTF_8));
+            this.checksum = crc.getValue();
+        }
+
+        /**
+         * Split the script into statements, dropping comment lines
+         */
+        private List<String> statements() {
+            String body = sql.lines()
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .collect(Collectors.joining("\n"));
+
+            List<String> statements = new ArrayList<>();
+            for (String statement : body.split(";")) {
+                if (!statement.trim().isEmpty()) {
+                    statements.add(statement.trim());
+                }
+            }
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.novatech.taskflow.config;
+
+/**
+ * Point-in-time statistics for the database connection pool
+ */
+public class PoolStats {
+
+    private final int active;
+    private final int idle;
+    private final int total;
+    private final int maxSize;
+    private final int waiters;
+    private final long acquireCount;
+    private final long acquireP50Micros;
+    private final long acquireP95Micros;
+    private final long acquireP99Micros;
+    private final long statementCacheHits;
+    private final long statementCacheMisses;
+    private final long statementCacheEvictions;
+
+    public PoolStats(int active, int idle, int total, int maxSize, int waiters, long acquireCount,
+                     long acquireP50Micros, long acquireP95Micros, long acquireP99Micros,
+                     long statementCacheHits, long statementCacheMisses, long statementCacheEvictions) {
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.maxSize = maxSize;
+        this.waiters = waiters;
+        this.acquireCount = acquireCount;
+        this.acquireP50Micros = acquireP50Micros;
+        this.acquireP95Micros = acquireP95Micros;
+        this.acquireP99Micros = acquireP99Micros;
+        this.statementCacheHits = statementCacheHits;
+        this.statementCacheMisses = statementCacheMisses;
+        this.statementCacheEvictions = statementCacheEvictions;
+    }
+
+    // Getters
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getWaiters() {
+        return waiters;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    public long getAcquireP50Micros() {
+        return acquireP50Micros;
+    }
+
+    public long getAcquireP95Micros() {
+        return acquireP95Micros;
+    }
+
+    public long getAcquireP99Micros() {
+        return acquireP99Micros;
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions;
+    }
+
+    /**
+     * @return The share of prepareStatement calls served from the statement cache, 0 before the first call
+     */
+    public double getStatementCacheHitRatio() {
+        long lookups = statementCacheHits + statementCacheMisses;
+        return lookups == 0 ? 0 : (double) statementCacheHits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "active=" + active +
+                ", idle=" + idle +
+                ", total=" + total +
+                ", maxSize=" + maxSize +
+                ", waiters=" + waiters +
+                ", acquireCount=" + acquireCount +
+                ", acquireP50Micros=" + acquireP50Micros +
+                ", acquireP95Micros=" + acquireP95Micros +
+                ", acquireP99Micros=" + acquireP99Micros +
+                ", statementCacheHits=" + statementCacheHits +
+                ", statementCacheMisses=" + statementCacheMisses +
+                ", statementCacheEvictions=" + statementCacheEvictions +
+                '}';
+    }
+}
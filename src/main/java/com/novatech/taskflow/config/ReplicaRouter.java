@@ -0,0 +1,222 @@
+package com.novatech.taskflow.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Spreads read connections over read replicas in round-robin order.
+ *
+ * A client that has written recently reads from the primary until the sticky window
+ * has passed, so it always sees its own writes despite replication lag. A replica
+ * that fails to hand out a connection is skipped until its retry delay has passed;
+ * with no replica available, reads fall back to the primary.
+ *
+ * Within one binding of a client to a thread, reads stay on the replica they first
+ * went to while it is available, so values read one after the other (e.g. a change
+ * tag and the body it describes) come from the same database.
+ */
+public class ReplicaRouter implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(ReplicaRouter.class);
+
+    private static final ThreadLocal<Binding> BINDING = new ThreadLocal<>();
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private final ConnectionPool primary;
+    private final List<ConnectionPool> replicas;
+    private final AtomicLongArray downUntil;
+    private final AtomicInteger next = new AtomicInteger();
+    private final long stickyMs;
+    private final long retryMs;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * @param primary The pool for the primary database
+     * @param replicas The pools for the read replicas, possibly empty
+     * @param stickyMs How long a client keeps reading from the primary after a write
+     * @param retryMs How long a failed replica is skipped
+     */
+    public ReplicaRouter(ConnectionPool primary, List<ConnectionPool> replicas, long stickyMs, long retryMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.downUntil = new AtomicLongArray(replicas.size());
+        this.stickyMs = stickyMs;
+        this.retryMs = retryMs;
+    }
+
+    /**
+     * Bind the client on whose behalf the current thread reads and writes
+     * @param clientId A stable client key, or null to unbind
+     * @return The previously bound client, to be passed back to restoreClient
+     */
+    public static String bindClient(String clientId) {
+        String previous = currentClient();
+        if (clientId == null) {
+            BINDING.remove();
+        } else {
+            BINDING.set(new Binding(clientId));
+        }
+        return previous;
+    }
+
+    /**
+     * Restore the binding that was in place before bindClient
+     * @param previous The value returned by bindClient
+     */
+    public static void restoreClient(String previous) {
+        bindClient(previous);
+    }
+
+    /**
+     * @return The client bound to the current thread, or null
+     */
+    public static String currentClient() {
+        Binding binding = BINDING.get();
+        return binding != null ? binding.client : null;
+    }
+
+    /**
+     * Start the current client's sticky window after it has written
+     */
+    public void recordWrite() {
+        String client = currentClient();
+        if (client != null && !replicas.isEmpty()) {
+            if (lastWrites.size() >= MAX_TRACKED_CLIENTS) {
+                long expired = System.currentTimeMillis() - stickyMs;
+                lastWrites.values().removeIf(writtenAt -> writtenAt < expired);
+            }
+            lastWrites.put(client, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Get a connection to the primary
+     */
+    Connection getPrimaryConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    /**
+     * Get a connection for reading from the next available replica, or from the primary
+     */
+    Connection getReadConnection() throws SQLException {
+        if (replicas.isEmpty() || isSticky()) {
+            return primary.getConnection();
+        }
+
+        Binding binding = BINDING.get();
+        if (binding != null && binding.replica >= 0) {
+            Connection conn = tryReplica(binding.replica);
+            if (conn != null) {
+                return conn;
+            }
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            Connection conn = tryReplica(index);
+            if (conn != null) {
+                if (binding != null) {
+                    binding.replica = index;
+                }
+                return conn;
+            }
+        }
+
+        return primary.getConnection();
+    }
+
+    /**
+     * Get a connection from one replica unless it is marked as down
+     * @return The connection, or null if the replica is unavailable
+     */
+    private Connection tryReplica(int index) {
+        long now = System.currentTimeMillis();
+        if (downUntil.get(index) > now) {
+            return null;
+        }
+        try {
+            return replicas.get(index).getConnection();
+        } catch (SQLException e) {
+            downUntil.set(index, now + retryMs);
+            LOG.warn("Read replica {} unavailable, skipping for {}ms: {}", index, retryMs, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isSticky() {
+        String client = currentClient();
+        if (client == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(client);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < stickyMs) {
+            return true;
+        }
+        lastWrites.remove(client, writtenAt);
+        return false;
+    }
+
+    /**
+     * @return The number of configured replicas
+     */
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * @return The number of replicas not currently marked as down
+     */
+    public int getAvailableReplicaCount() {
+        long now = System.currentTimeMillis();
+        int available = 0;
+        for (int i = 0; i < downUntil.length(); i++) {
+            if (downUntil.get(i) <= now) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Get live statistics for one replica's pool
+     * @param index The replica index
+     * @return A snapshot of the pool state
+     */
+    public PoolStats getReplicaStats(int index) {
+        return replicas.get(index).getStats();
+    }
+
+    @Override
+    public void close() {
+        for (ConnectionPool replica : replicas) {
+            replica.close();
+        }
+        primary.close();
+    }
+
+    /**
+     * The client bound to a thread and the replica its reads are pinned to
+     */
+    private static final class Binding {
+        private final String client;
+        private int replica = -1;
+
+        private Binding(String client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.novatech.taskflow.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of prepared statements for one physical connection.
+ *
+ * Statements are keyed by SQL text and prepare options. Closing a statement handed
+ * out by the cache clears its parameters and keeps it open for the next caller, so
+ * the database parses and plans each distinct statement once per connection.
+ * A connection is leased to one thread at a time, so the cache needs no locking.
+ */
+class StatementCache {
+
+    private static final Logger LOG = LogManager.getLogger(StatementCache.class);
+
+    private final Map<String, CachedStatement> statements;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Constructor
+     * @param capacity The most statements kept open on the connection
+     * @param hits Counter of reused statements, shared by the pool
+     * @param misses Counter of newly prepared statements, shared by the pool
+     * @param evictions Counter of statements closed to stay within capacity, shared by the pool
+     */
+    StatementCache(int capacity, LongAdder hits, LongAdder misses, LongAdder evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                evictions.increment();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Check whether a prepareStatement call can be served from the cache:
+     * (sql), (sql, autoGeneratedKeys) or (sql, resultSetType, resultSetConcurrency)
+     */
+    static boolean isCacheable(Object[] args) {
+        if (args == null || args.length == 0 || !(args[0] instanceof String)) {
+            return false;
+        }
+        for (int i = 1; i < args.length; i++) {
+            if (!(args[i] instanceof Integer)) {
+                return false;
+            }
+        }
+        return args.length <= 3;
+    }
+
+    /**
+     * Get a prepared statement for the arguments of a prepareStatement call
+     * @param connection The physical connection
+     * @param owner The connection proxy the caller holds, returned by getConnection()
+     * @param method Connection.prepareStatement with the caller's signature
+     * @param args The caller's arguments; see isCacheable
+     * @return A statement whose close() returns it to the cache
+     */
+    PreparedStatement prepare(Connection connection, Connection owner, Method method, Object[] args)
+            throws SQLException {
+        StringBuilder key = new StringBuilder();
+        for (int i = 1; i < args.length; i++) {
+            key.append(args[i]).append(':');
+        }
+        key.append(args[0]);
+
+        CachedStatement cached = statements.get(key.toString());
+        if (cached != null && !cached.inUse) {
+            hits.increment();
+        } else {
+            misses.increment();
+            PreparedStatement statement = (PreparedStatement) invoke(connection, method, args);
+            if (cached != null) {
+                // The same SQL is already open further up the stack; this one is not kept
+                cached = new CachedStatement(statement);
+                cached.evicted = true;
+            } else {
+                cached = new CachedStatement(statement);
+                statements.put(key.toString(), cached);
+            }
+        }
+
+        cached.inUse = true;
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new StatementLease(cached, owner));
+    }
+
+    /**
+     * Close every cached statement before the connection is retired.
+     * Statements still in use are closed when their caller closes them.
+     */
+    void close() {
+        for (CachedStatement cached : statements.values()) {
+            cached.evict();
+        }
+        statements.clear();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            // JDBC methods only declare SQLException
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException(cause);
+        } catch (IllegalAccessException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * A physical statement owned by the cache
+     */
+    private final class CachedStatement {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+        private boolean optionsChanged;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        /**
+         * Put the statement back for reuse, undoing what the caller changed
+         */
+        private void checkIn() {
+            inUse = false;
+            if (evicted) {
+                closeQuietly();
+                return;
+            }
+
+            try {
+                ResultSet open = statement.getResultSet();
+                if (open != null) {
+                    open.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+                if (optionsChanged) {
+                    statement.setFetchSize(0);
+                    statement.setMaxRows(0);
+                    statement.setQueryTimeout(0);
+                    optionsChanged = false;
+                }
+            } catch (SQLException e) {
+                statements.values().remove(this);
+                closeQuietly();
+            }
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOG.warn("Error closing cached statement: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Proxy handler for one use of a cached statement
+     */
+    private final class StatementLease implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection owner;
+        private boolean closed;
+
+        private StatementLease(CachedStatement cached, Connection owner) {
+            this.cached = cached;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        cached.checkIn();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cached.statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.statement + "]";
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setQueryTimeout":
+                    cached.optionsChanged = true;
+                    break;
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            return StatementCache.invoke(cached.statement, method, args);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.config.ReplicaRouter;
+import com.novatech.taskflow.metrics.QueryTrace;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs servlet request handling on virtual threads through AsyncContext,
+ * so blocking JDBC calls do not hold container worker threads.
+ * A semaphore caps how many handlers run at once so the database is not
+ * flooded with more concurrent work than the connection pool can serve.
+ */
+public final class AsyncDispatcher {
+
+    private static final boolean ENABLED = AppConfig.getBoolean("async.enabled", true);
+    private static final long TIMEOUT_MS = AppConfig.getLong("async.timeoutMs", 30_000L);
+    private static final long QUEUE_TIMEOUT_MS = AppConfig.getLong("async.queueTimeoutMs", 5_000L);
+    private static final Semaphore PERMITS = new Semaphore(AppConfig.getInt("async.maxConcurrency", 10), true);
+    // Set on a request whose handler failed after committing the response
+    private static final String FAILURE_ATTRIBUTE = AsyncDispatcher.class.getName() + ".failure";
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("taskflow-request-", 0).factory());
+
+    /**
+     * Request handling logic run off the container thread
+     */
+    @FunctionalInterface
+    interface Handler {
+        /**
+         * Handle the request
+         * @param request The request to use; not the one the servlet received
+         * @param response The response to use; not the one the servlet received
+         * @return The path of a view to dispatch to, or null if the response is complete
+         */
+        String handle(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException;
+    }
+
+    private AsyncDispatcher() {
+    }
+
+    /**
+     * Handle a request on a virtual thread, or inline if async processing is unavailable
+     * @param request The HTTP request
+     * @param response The HTTP response
+     * @param handler The handling logic
+     */
+    static void execute(HttpServletRequest request, HttpServletResponse response, Handler handler)
+            throws ServletException, IOException {
+        execute(request, response, TIMEOUT_MS, PERMITS, handler);
+    }
+
+    /**
+     * Handle a request on a virtual thread with its own time limit and concurrency cap,
+     * e.g. for long transfers that must not use up the permits of ordinary requests
+     * @param request The HTTP request
+     * @param response The HTTP response
+     * @param timeoutMs How long the request may run, or 0 for no limit
+     * @param permits The semaphore capping how many such handlers run at once
+     * @param handler The handling logic
+     */
+    static void execute(HttpServletRequest request, HttpServletResponse response, long timeoutMs,
+                        Semaphore permits, Handler handler) throws ServletException, IOException {
+
+        // Back on a container thread after a handler failed mid-response: rethrow, so the
+        // container aborts the connection instead of ending the response normally and the
+        // client sees a truncated transfer rather than a complete-looking one
+        Object failure = request.getAttribute(FAILURE_ATTRIBUTE);
+        if (failure instanceof Exception) {
+            request.removeAttribute(FAILURE_ATTRIBUTE);
+            Exception e = (Exception) failure;
+            throw new ServletException("Error after response was committed: " + e.getMessage(), e);
+        }
+
+        if (!ENABLED || !request.isAsyncSupported()) {
+            String view = handler.handle(request, response);
+            if (view != null) {
+                request.getRequestDispatcher(view).forward(request, response);
+            }
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeoutMs);
+
+        // Whoever finishes first, the handler or the timeout, completes the request.
+        // The handler only sees guarded views, so it cannot touch the request once the
+        // timeout has completed it and the container has recycled it.
+        RequestGuard guard = new RequestGuard(request, response);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                guard.finish(() -> {
+                    sendUnavailable(response, "Request timed out");
+                    asyncContext.complete();
+                });
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        // Carry the request's query trace and client over to the handler thread
+        QueryTrace trace = QueryTrace.current();
+        String client = ReplicaRouter.currentClient();
+
+        // Wait for a permit for less than the request may run, so a queued request
+        // gets a clean 503 instead of losing the race against the timeout
+        long queueTimeoutMs = timeoutMs > 0 ? Math.min(QUEUE_TIMEOUT_MS, timeoutMs / 2) : QUEUE_TIMEOUT_MS;
+
+        try {
+            EXECUTOR.execute(() -> {
+                QueryTrace previousTrace = QueryTrace.bind(trace);
+                String previousClient = ReplicaRouter.bindClient(client);
+                boolean acquired = false;
+                try {
+                    acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+                    if (!acquired) {
+                        guard.finish(() -> {
+                            sendUnavailable(response, "Server busy");
+                            asyncContext.complete();
+                        });
+                        return;
+                    }
+
+                    String view = handler.handle(guard.request(), guard.response());
+                    guard.finish(() -> {
+                        if (view != null) {
+                            asyncContext.dispatch(view);
+                        } else {
+                            asyncContext.complete();
+                        }
+                    });
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    try {
+                        guard.finish(() -> {
+                            if (response.isCommitted()) {
+                                // complete() would end the response cleanly; dispatch back so the
+                                // failure is rethrown on a container thread
+                                request.setAttribute(FAILURE_ATTRIBUTE, e);
+                                asyncContext.dispatch();
+                                return;
+                            }
+                            try {
+                                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                            } finally {
+                                asyncContext.complete();
+                            }
+                        });
+                    } catch (IOException ignored) {
+                        // Client is gone; nothing more to send
+                    }
+                } finally {
+                    if (acquired) {
+                        permits.release();
+                    }
+                    QueryTrace.restore(previousTrace);
+                    ReplicaRouter.restoreClient(previousClient);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down: the request is already async, so it must be completed here
+            guard.finish(() -> {
+                sendUnavailable(response, "Server shutting down");
+                asyncContext.complete();
+            });
+        }
+    }
+
+    private static void sendUnavailable(HttpServletResponse response, String message) throws IOException {
+        if (!response.isCommitted()) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, message);
+        }
+    }
+
+    /**
+     * Stop accepting new work and let running handlers finish
+     */
+    public static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+}
@@ -1,5 +1,6 @@
 package com.novatech.taskflow.controller;
 
+import com.novatech.taskflow.model.DashboardSummary;
 import com.novatech.taskflow.model.Task;
 import com.novatech.taskflow.model.TaskStatus;
 import com.novatech.taskflow.service.TaskService;
@@ -16,10 +17,11 @@ import java.util.List;
 /**
  * Servlet for the home/dashboard page
  */
-@WebServlet({"/", "/home", "/dashboard"})
+@WebServlet(urlPatterns = {"/", "/home", "/dashboard"}, asyncSupported = true)
 public class HomeServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
+    private static final int DASHBOARD_LIST_SIZE = 10;
     private final TaskService taskService;
 
     /**
@@ -36,40 +38,38 @@ public class HomeServlet extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> handleGet(req));
+    }
 
+    /**
+     * Load the dashboard data
+     * @return The view to render
+     */
+    private String handleGet(HttpServletRequest request) {
         try {
-            // Get tasks due today
-            List<Task> todayTasks = taskService.getTasksDueToday();
+            // All counts come from a single aggregate query
+            DashboardSummary summary = taskService.getDashboardSummary();
+            request.setAttribute("pendingCount", summary.getCount(TaskStatus.PENDING));
+            request.setAttribute("inProgressCount", summary.getCount(TaskStatus.IN_PROGRESS));
+            request.setAttribute("completedCount", summary.getCount(TaskStatus.COMPLETED));
+            request.setAttribute("totalCount", summary.getTotalCount());
+            request.setAttribute("completionRate", summary.getCompletionRate());
+
+            // Only the first few overdue and due-today tasks are listed
+            List<Task> todayTasks = taskService.getTasksDueToday(DASHBOARD_LIST_SIZE);
             request.setAttribute("todayTasks", todayTasks);
+            request.setAttribute("todayCount", summary.getDueTodayCount());
 
-            // Get overdue tasks
-            List<Task> overdueTasks = taskService.getOverdueTasks();
+            List<Task> overdueTasks = taskService.getOverdueTasks(DASHBOARD_LIST_SIZE);
             request.setAttribute("overdueTasks", overdueTasks);
-
-            // Get tasks by status for statistics
-            List<Task> pendingTasks = taskService.getTasksByStatus(TaskStatus.PENDING);
-            List<Task> inProgressTasks = taskService.getTasksByStatus(TaskStatus.IN_PROGRESS);
-            List<Task> completedTasks = taskService.getTasksByStatus(TaskStatus.COMPLETED);
-
-            request.setAttribute("pendingCount", pendingTasks.size());
-            request.setAttribute("inProgressCount", inProgressTasks.size());
-            request.setAttribute("completedCount", completedTasks.size());
-
-            // Get total tasks
-            List<Task> allTasks = taskService.getAllTasks();
-            request.setAttribute("totalCount", allTasks.size());
-
-            // Calculate completion rate
-            double completionRate = allTasks.isEmpty() ? 0 :
-                    (double) completedTasks.size() / allTasks.size() * 100;
-            request.setAttribute("completionRate", Math.round(completionRate));
+            request.setAttribute("overdueCount", summary.getOverdueCount());
 
             // Forward to the home page
-            request.getRequestDispatcher("/WEB-INF/views/home.jsp").forward(request, response);
+            return "/WEB-INF/views/home.jsp";
 
         } catch (Exception e) {
             request.setAttribute("errorMessage", "Error loading dashboard: " + e.getMessage());
-            request.getRequestDispatcher("/WEB-INF/views/error.jsp").forward(request, response);
+            return "/WEB-INF/views/error.jsp";
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.metrics.MetricsRegistry;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records request count, error count and latency per route and HTTP method.
+ * Requests handled asynchronously are measured until the async context completes.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class MetricsFilter implements Filter {
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse resp, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) resp;
+        MetricsRegistry.EndpointMetrics metrics = registry.endpoint(route(request), request.getMethod());
+        long start = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            chain.doFilter(req, resp);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    private volatile boolean errored;
+
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        metrics.record(System.nanoTime() - start, errored || response.getStatus() >= 500);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        errored = true;
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        errored = true;
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                metrics.record(System.nanoTime() - start, failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    /**
+     * Map a request to a route label, replacing numeric path segments with {id}
+     */
+    static String route(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            path = path + pathInfo;
+        }
+        if (path.isEmpty()) {
+            return "/";
+        }
+        if (path.startsWith("/static/")) {
+            return "/static";
+        }
+
+        StringBuilder route = null;
+        int segmentStart = 0;
+        for (int i = 1; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                boolean numeric = i > segmentStart + 1;
+                for (int j = segmentStart + 1; j < i && numeric; j++) {
+                    numeric = Character.isDigit(path.charAt(j));
+                }
+                if (numeric && route == null) {
+                    route = new StringBuilder(path.substring(0, segmentStart));
+                }
+                if (route != null) {
+                    route.append(numeric ? "/{id}" : path.substring(segmentStart, i));
+                }
+                segmentStart = i;
+            }
+        }
+        // Only allocate a new label when the path actually had an ID in it
+        return route == null ? path : route.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.config.DatabaseConfig;
+import com.novatech.taskflow.config.PoolStats;
+import com.novatech.taskflow.config.ReplicaRouter;
+import com.novatech.taskflow.dao.CacheStats;
+import com.novatech.taskflow.dao.CachingTaskDAO;
+import com.novatech.taskflow.dao.TaskDAO;
+import com.novatech.taskflow.dao.TaskDAOFactory;
+import com.novatech.taskflow.metrics.MetricsRegistry;
+import com.novatech.taskflow.service.TaskArchiver;
+import com.novatech.taskflow.service.TaskEventBroadcaster;
+import com.novatech.taskflow.service.TaskSearchIndex;
+import com.novatech.taskflow.service.TaskWriteBehindQueue;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Exposes application and JVM metrics in Prometheus text format:
+ * /metrics - scrape endpoint
+ */
+@WebServlet("/metrics")
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Write the current value of every metric
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType("text/plain; version=0.0.4");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        PrintWriter out = response.getWriter();
+
+        MetricsRegistry.getInstance().writeTo(out);
+
+        PoolStats pool = DatabaseConfig.getPoolStats();
+        MetricsRegistry.writeGauge(out, "taskflow_db_pool_active_connections", "gauge",
+                "Connections lent out", pool.getActive());
+        MetricsRegistry.writeGauge(out, "taskflow_db_pool_idle_connections", "gauge",
+                "Connections waiting in the pool", pool.getIdle());
+        MetricsRegistry.writeGauge(out, "taskflow_db_pool_max_connections", "gauge",
+                "Configured pool size limit", pool.getMaxSize());
+        MetricsRegistry.writeGauge(out, "taskflow_db_pool_waiters", "gauge",
+                "Threads waiting for a connection", pool.getWaiters());
+        MetricsRegistry.writeGauge(out, "taskflow_db_statement_cache_hits_total", "counter",
+                "Prepared statements reused from a connection's cache", pool.getStatementCacheHits());
+        MetricsRegistry.writeGauge(out, "taskflow_db_statement_cache_misses_total", "counter",
+                "Prepared statements the database had to prepare", pool.getStatementCacheMisses());
+        MetricsRegistry.writeGauge(out, "taskflow_db_statement_cache_evictions_total", "counter",
+                "Cached statements closed to stay within pool.statementCacheSize", pool.getStatementCacheEvictions());
+        MetricsRegistry.writeGauge(out, "taskflow_db_statement_cache_hit_ratio", "gauge",
+                "Share of prepareStatement calls served from the cache", pool.getStatementCacheHitRatio());
+
+        ReplicaRouter router = DatabaseConfig.getReplicaRouter();
+        MetricsRegistry.writeGauge(out, "taskflow_db_replicas", "gauge",
+                "Configured read replicas", router.getReplicaCount());
+        MetricsRegistry.writeGauge(out, "taskflow_db_replicas_available", "gauge",
+                "Read replicas not marked as down", router.getAvailableReplicaCount());
+
+        TaskDAO taskDAO = TaskDAOFactory.getTaskDAO();
+        if (taskDAO instanceof CachingTaskDAO) {
+            CacheStats cache = ((CachingTaskDAO) taskDAO).getStats();
+            MetricsRegistry.writeGauge(out, "taskflow_cache_hits_total", "counter",
+                    "Task cache hits", cache.getHits());
+            MetricsRegistry.writeGauge(out, "taskflow_cache_misses_total", "counter",
+                    "Task cache misses", cache.getMisses());
+            MetricsRegistry.writeGauge(out, "taskflow_cache_evictions_total", "counter",
+                    "Tasks evicted to stay within the size limit", cache.getEvictions());
+            MetricsRegistry.writeGauge(out, "taskflow_cache_expirations_total", "counter",
+                    "Cached tasks dropped after their TTL", cache.getExpirations());
+            MetricsRegistry.writeGauge(out, "taskflow_cache_size", "gauge",
+                    "Tasks currently cached", cache.getSize());
+        }
+
+        MetricsRegistry.writeGauge(out, "taskflow_event_subscribers", "gauge",
+                "Open change-feed streams", TaskEventBroadcaster.getInstance().getSubscriberCount());
+        MetricsRegistry.writeGauge(out, "taskflow_search_index_tasks", "gauge",
+                "Tasks in the search index", TaskSearchIndex.getInstance().size());
+        if (AppConfig.getBoolean("archive.enabled", true)) {
+            MetricsRegistry.writeGauge(out, "taskflow_archived_tasks_total", "counter",
+                    "Finished tasks moved to tasks_archive since startup", TaskArchiver.getInstance().getArchivedCount());
+        }
+        if (AppConfig.getBoolean("writeBehind.enabled", false)) {
+            MetricsRegistry.writeGauge(out, "taskflow_write_behind_queued", "gauge",
+                    "Task creates waiting for group commit", TaskWriteBehindQueue.getInstance().getQueuedCount());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.metrics.QueryTrace;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements and database time of each request and logs a summary,
+ * at WARN when the request goes over the configured query budget.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class QueryTraceFilter implements Filter {
+
+    private static final Logger LOG = LogManager.getLogger("com.novatech.taskflow.trace");
+    private static final boolean ENABLED = AppConfig.getBoolean("trace.enabled", true);
+    private static final int MAX_STATEMENTS = AppConfig.getInt("trace.maxStatementsPerRequest", 10);
+    private static final long MAX_DB_NANOS = AppConfig.getLong("trace.maxDbTimeMsPerRequest", 500) * 1_000_000L;
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse resp, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (!ENABLED) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        QueryTrace trace = new QueryTrace();
+        QueryTrace previous = QueryTrace.bind(trace);
+
+        try {
+            chain.doFilter(req, resp);
+        } finally {
+            QueryTrace.restore(previous);
+
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        report(request, trace);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                report(request, trace);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryTrace trace) {
+        int statements = trace.getStatementCount();
+        if (statements == 0) {
+            return;
+        }
+
+        long dbNanos = trace.getDbNanos();
+        if (statements > MAX_STATEMENTS || dbNanos > MAX_DB_NANOS) {
+            LOG.warn("{} {} over query budget: {} statements, {} ms in database (budget {} statements, {} ms)",
+                    request.getMethod(), request.getRequestURI(), statements, dbNanos / 1_000_000,
+                    MAX_STATEMENTS, MAX_DB_NANOS / 1_000_000);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("{} {}: {} statements, {} ms in database",
+                    request.getMethod(), request.getRequestURI(), statements, dbNanos / 1_000_000.0);
+        }
+    }
+}
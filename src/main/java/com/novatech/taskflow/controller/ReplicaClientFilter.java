@@ -0,0 +1,87 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.ReplicaRouter;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Identifies the client of each request so that, after a write, its reads go to
+ * the primary database rather than a possibly lagging replica.
+ *
+ * The client is, in order: the HTTP session, the X-Client-Id header, or the client
+ * cookie. A write request without any of these is given a new client cookie, so
+ * the requests that follow it are recognised. Anything else is its own client for
+ * the duration of the request. The remote address is never used: clients behind
+ * one proxy or NAT would share a sticky window.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class ReplicaClientFilter implements Filter {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+    private static final String CLIENT_COOKIE = "taskflow_client";
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse resp, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        String previous = ReplicaRouter.bindClient(identify(request, (HttpServletResponse) resp));
+        try {
+            chain.doFilter(req, resp);
+        } finally {
+            ReplicaRouter.restoreClient(previous);
+        }
+    }
+
+    /**
+     * Work out the client key for a request, issuing a client cookie to anonymous writers
+     */
+    private static String identify(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+
+        String header = request.getHeader(CLIENT_HEADER);
+        if (header != null && VALID_ID.matcher(header).matches()) {
+            return "header:" + header;
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (CLIENT_COOKIE.equals(cookie.getName()) && VALID_ID.matcher(cookie.getValue()).matches()) {
+                    return "cookie:" + cookie.getValue();
+                }
+            }
+        }
+
+        String id = UUID.randomUUID().toString();
+        if (!isSafe(request.getMethod())) {
+            Cookie cookie = new Cookie(CLIENT_COOKIE, id);
+            String path = request.getContextPath();
+            cookie.setPath(path == null || path.isEmpty() ? "/" : path);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+            return "cookie:" + id;
+        }
+        return "request:" + id;
+    }
+
+    private static boolean isSafe(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
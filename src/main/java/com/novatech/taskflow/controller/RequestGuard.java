@@ -0,0 +1,345 @@
+package com.novatech.taskflow.controller;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fences off the request and response a handler thread works with once the request
+ * has been finished by someone else, e.g. the async timeout.
+ *
+ * The container recycles request and response objects after complete(), so a handler
+ * that is still running must not reach them. Every call through the guarded views
+ * takes the guard's lock and fails with IllegalStateException once the request is
+ * finished; writes and reads through their streams fail with IOException. Finishing
+ * takes the same lock, so it never interleaves with a call the handler is making.
+ */
+final class RequestGuard {
+
+    /**
+     * An action that finishes the request, run at most once
+     */
+    @FunctionalInterface
+    interface Finisher {
+        void finish() throws IOException;
+    }
+
+    // Not synchronized: handler threads are virtual and block on socket writes under this lock
+    private final ReentrantLock guardLock = new ReentrantLock();
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private boolean finished;
+
+    RequestGuard(HttpServletRequest request, HttpServletResponse response) {
+        this.request = (HttpServletRequest) Proxy.newProxyInstance(RequestGuard.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, new GuardHandler(request));
+        this.response = (HttpServletResponse) Proxy.newProxyInstance(RequestGuard.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, new GuardHandler(response));
+    }
+
+    /**
+     * @return The request as the handler sees it
+     */
+    HttpServletRequest request() {
+        return request;
+    }
+
+    /**
+     * @return The response as the handler sees it
+     */
+    HttpServletResponse response() {
+        return response;
+    }
+
+    /**
+     * Finish the request unless someone already has
+     * @param finisher Sends whatever is left to send and completes or dispatches the request;
+     *                 it must use the real request and response, not the guarded views
+     * @return true if this call finished the request
+     */
+    boolean finish(Finisher finisher) throws IOException {
+        guardLock.lock();
+        try {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            finisher.finish();
+            return true;
+        } finally {
+            guardLock.unlock();
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Request has already been completed");
+        }
+    }
+
+    /**
+     * Proxy handler forwarding calls to the real object while the request is open
+     */
+    private final class GuardHandler implements InvocationHandler {
+        private final Object target;
+
+        private GuardHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Guarded[" + target + "]";
+                default:
+                    break;
+            }
+
+            guardLock.lock();
+            try {
+                if (finished) {
+                    throw new IllegalStateException("Request has already been completed");
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                switch (method.getName()) {
+                    case "getWriter":
+                        return new PrintWriter(new GuardedWriter((Writer) result));
+                    case "getOutputStream":
+                        return new GuardedOutputStream((ServletOutputStream) result);
+                    case "getReader":
+                        return new BufferedReader(new GuardedReader((Reader) result));
+                    case "getInputStream":
+                        return new GuardedInputStream((ServletInputStream) result);
+                    default:
+                        return result;
+                }
+            } finally {
+                guardLock.unlock();
+            }
+        }
+    }
+
+    private final class GuardedWriter extends Writer {
+        private final Writer out;
+
+        private GuardedWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.write(cbuf, off, len);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.write(str, off, len);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.flush();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.close();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+    }
+
+    private final class GuardedOutputStream extends ServletOutputStream {
+        private final ServletOutputStream out;
+
+        private GuardedOutputStream(ServletOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.write(b);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.write(b, off, len);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.flush();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                out.close();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return out.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            out.setWriteListener(writeListener);
+        }
+    }
+
+    private final class GuardedReader extends Reader {
+        private final Reader in;
+
+        private GuardedReader(Reader in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                return in.read(cbuf, off, len);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                in.close();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+    }
+
+    private final class GuardedInputStream extends ServletInputStream {
+        private final ServletInputStream in;
+
+        private GuardedInputStream(ServletInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                return in.read();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                return in.read(b, off, len);
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            guardLock.lock();
+            try {
+                checkOpen();
+                in.close();
+            } finally {
+                guardLock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return in.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return in.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            in.setReadListener(readListener);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.novatech.taskflow.controller;
 
+import com.novatech.taskflow.dao.VersionConflictException;
+import com.novatech.taskflow.model.DashboardSummary;
 import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
+import com.novatech.taskflow.model.TaskPage;
 import com.novatech.taskflow.model.TaskStatus;
 import com.novatech.taskflow.service.TaskService;
 import com.novatech.taskflow.service.TaskServiceImpl;
 import com.novatech.taskflow.util.DateUtil;
+import com.novatech.taskflow.util.TaskJsonWriter;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -14,10 +20,19 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.sql.Statement;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import org.json.JSONArray;
@@ -27,10 +42,13 @@ import org.json.JSONObject;
 /**
  * RESTful API servlet for task operations
  */
-@WebServlet("/api/tasks/*")
+@WebServlet(urlPatterns = "/api/tasks/*", asyncSupported = true)
 public class TaskRestServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final List<String> COLLECTION_PATHS = Arrays.asList("/", "/overdue", "/today", "/summary", "/search");
     private final TaskService taskService;
 
     /**
@@ -44,13 +62,31 @@ public class TaskRestServlet extends HttpServlet {
      * Handle GET requests for the task API:
      * /api/tasks - get all tasks
      * /api/tasks/{id} - get a specific task
+     * /api/tasks/{id}?includeArchived=true - get a specific task, even if it has been archived
      * /api/tasks?status={status} - get tasks by status
+     * /api/tasks?limit={n}&cursor={cursor} - get one page of tasks ordered by due date
      * /api/tasks/overdue - get overdue tasks
      * /api/tasks/today - get tasks due today
+     * /api/tasks/summary - get dashboard counts
+     * /api/tasks/search?q={text}&limit={n} - full-text search, best match first
+     *
+     * Any of these accepts fields={name,...} (e.g. fields=title,dueDate) to return only
+     * those fields; the listing endpoints then read only those columns.
+     *
+     * Responses carry an ETag (single tasks also Last-Modified); conditional requests
+     * that match get 304 Not Modified without the body being produced.
      */
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> {
+            handleGet(req, resp);
+            return null;
+        });
+    }
+
+    private void handleGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
 
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
@@ -59,30 +95,67 @@ public class TaskRestServlet extends HttpServlet {
         try {
             String pathInfo = request.getPathInfo();
 
+            Set<TaskField> fields;
+            try {
+                fields = TaskField.parse(request.getParameter("fields"));
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                out.print(new JSONObject().put("error", e.getMessage()).toString());
+                return;
+            }
+
+            // Collection responses only change when the stored tasks change or the day rolls over.
+            // The tag is read before the body and from the same database, so a tag never
+            // vouches for a body older than itself
+            if (pathInfo == null || COLLECTION_PATHS.contains(pathInfo)) {
+                String etag = "\"" + taskService.getChangeTag() + "-" + Long.toString(DateUtil.today().getTime(), 36)
+                        + "-" + Integer.toHexString((pathInfo + "?" + request.getQueryString()).hashCode()) + "\"";
+                // No Last-Modified: the newest update time cannot reflect deleted tasks
+                if (isNotModified(request, response, etag, -1)) {
+                    return;
+                }
+            }
+
             // Get a specific task by ID
             if (pathInfo != null && !pathInfo.equals("/")) {
                 if (pathInfo.equals("/overdue")) {
                     // Get overdue tasks
                     List<Task> tasks = taskService.getOverdueTasks();
-                    out.print(toJsonArray(tasks));
+                    new TaskJsonWriter(out, fields).writeArray(tasks);
                     return;
                 } else if (pathInfo.equals("/today")) {
                     // Get tasks due today
                     List<Task> tasks = taskService.getTasksDueToday();
-                    out.print(toJsonArray(tasks));
+                    new TaskJsonWriter(out, fields).writeArray(tasks);
+                    return;
+                } else if (pathInfo.equals("/summary")) {
+                    // Get dashboard counts
+                    out.print(toJson(taskService.getDashboardSummary()).toString());
+                    return;
+                } else if (pathInfo.equals("/search")) {
+                    // Search titles and descriptions
+                    try {
+                        String limitParam = request.getParameter("limit");
+                        int limit = limitParam == null ? DEFAULT_PAGE_SIZE : Integer.parseInt(limitParam);
+                        List<Task> tasks = taskService.searchTasks(request.getParameter("q"), limit);
+                        new TaskJsonWriter(out, fields).writeArray(tasks);
+                    } catch (IllegalArgumentException e) {
+                        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                        out.print(new JSONObject().put("error", "Invalid limit").toString());
+                    }
                     return;
                 }
 
                 // Get task by ID
                 try {
                     Long taskId = Long.parseLong(pathInfo.substring(1));
-                    Task task = taskService.getTaskById(taskId);
+                    Task task = taskService.getTaskById(taskId, Boolean.parseBoolean(request.getParameter("includeArchived")));
 
                     if (task == null) {
                         response.setStatus(HttpServletResponse.SC_NOT_FOUND);
                         out.print(new JSONObject().put("error", "Task not found").toString());
-                    } else {
-                        out.print(toJson(task).toString());
+                    } else if (!isNotModified(request, response, taskETag(task), task.getUpdatedAt().getTime())) {
+                        new TaskJsonWriter(out, fields).writeTask(task);
                     }
                 } catch (NumberFormatException e) {
                     response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -93,22 +166,52 @@ public class TaskRestServlet extends HttpServlet {
 
             // Get all tasks or filter by status
             String statusParam = request.getParameter("status");
-            List<Task> tasks;
+            TaskStatus status = null;
 
             if (statusParam != null && !statusParam.isEmpty()) {
                 try {
-                    TaskStatus status = TaskStatus.valueOf(statusParam.toUpperCase());
-                    tasks = taskService.getTasksByStatus(status);
+                    status = TaskStatus.valueOf(statusParam.toUpperCase());
                 } catch (IllegalArgumentException e) {
-                    tasks = taskService.getAllTasks();
+                    // Unknown status: list all tasks
                 }
-            } else {
-                tasks = taskService.getAllTasks();
             }
 
-            out.print(toJsonArray(tasks));
+            // Paginated listing when the client asks for it
+            String limitParam = request.getParameter("limit");
+            String cursorParam = request.getParameter("cursor");
+
+            if (limitParam != null || cursorParam != null) {
+                try {
+                    int limit = limitParam == null ? DEFAULT_PAGE_SIZE : Integer.parseInt(limitParam);
+                    TaskPage page = taskService.getTaskPage(status, cursorParam, limit, fields);
+                    writePage(out, page, fields);
+                } catch (NumberFormatException e) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    out.print(new JSONObject().put("error", "Invalid limit").toString());
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    out.print(new JSONObject().put("error", e.getMessage()).toString());
+                }
+                return;
+            }
+
+            // Stream rows straight from the result set to the response
+            TaskJsonWriter writer = new TaskJsonWriter(out, fields);
+            writer.beginArray();
+            taskService.forEachTask(status, fields, task -> {
+                try {
+                    writer.writeElement(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.endArray();
 
         } catch (Exception e) {
+            if (response.isCommitted()) {
+                // Part of a streamed body has been sent; abort rather than append an error to it
+                throw new ServletException("Error streaming response: " + e.getMessage(), e);
+            }
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             out.print(new JSONObject().put("error", "Server error: " + e.getMessage()).toString());
         }
@@ -117,10 +220,20 @@ public class TaskRestServlet extends HttpServlet {
     /**
      * Handle POST requests to create a new task:
      * /api/tasks - create a new task
+     * /api/tasks/batch - create, update and delete many tasks at once
+     * /api/tasks/transition - change the status of every task matching a filter
      */
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> {
+            handlePost(req, resp);
+            return null;
+        });
+    }
+
+    private void handlePost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
 
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
@@ -131,6 +244,16 @@ public class TaskRestServlet extends HttpServlet {
             String requestBody = request.getReader().lines().collect(Collectors.joining());
             JSONObject taskJson = new JSONObject(requestBody);
 
+            if ("/batch".equals(request.getPathInfo())) {
+                out.print(processBatch(taskJson).toString());
+                return;
+            }
+
+            if ("/transition".equals(request.getPathInfo())) {
+                out.print(processTransition(taskJson).toString());
+                return;
+            }
+
             // Create new task
             Task task = new Task();
             populateTaskFromJson(task, taskJson);
@@ -138,8 +261,13 @@ public class TaskRestServlet extends HttpServlet {
             Task createdTask = taskService.createTask(task);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            out.print(toJson(createdTask).toString());
+            new TaskJsonWriter(out).writeTask(createdTask);
 
+        } catch (RejectedExecutionException e) {
+            // The write-behind queue is full; ask the client to back off
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            out.print(new JSONObject().put("error", e.getMessage()).toString());
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             out.print(new JSONObject().put("error", e.getMessage()).toString());
@@ -155,10 +283,22 @@ public class TaskRestServlet extends HttpServlet {
     /**
      * Handle PUT requests to update a task:
      * /api/tasks/{id} - update a task
+     * When If-Match or a body "version" names the version being replaced, the task is
+     * updated in one conditional UPDATE without reading it first, and the answer is 204
+     * with the new ETag unless the client sends "Prefer: return=representation".
+     * Otherwise the task is read from the primary, updated and returned.
      */
     @Override
     protected void doPut(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> {
+            handlePut(req, resp);
+            return null;
+        });
+    }
+
+    private void handlePut(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
 
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
@@ -176,24 +316,199 @@ public class TaskRestServlet extends HttpServlet {
             // Get task ID from path
             try {
                 Long taskId = Long.parseLong(pathInfo.substring(1));
-                Task task = taskService.getTaskById(taskId);
-
-                if (task == null) {
-                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                    out.print(new JSONObject().put("error", "Task not found").toString());
-                    return;
-                }
 
                 // Read request body
                 String requestBody = request.getReader().lines().collect(Collectors.joining());
                 JSONObject taskJson = new JSONObject(requestBody);
 
-                // Update task
-                populateTaskFromJson(task, taskJson);
+                // The version being replaced comes from If-Match or, failing that, the body
+                Long expectedVersion = null;
+                String ifMatch = request.getHeader("If-Match");
+                boolean conditional = ifMatch != null && !ifMatch.trim().equals("*");
+                if (conditional) {
+                    expectedVersion = versionFromETag(ifMatch, taskId);
+                    if (expectedVersion == null) {
+                        response.setStatus(HttpServletResponse.SC_PRECONDITION_FAILED);
+                        out.print(new JSONObject().put("error", "Task has been modified").toString());
+                        return;
+                    }
+                } else if (taskJson.has("version") && !taskJson.isNull("version")) {
+                    expectedVersion = taskJson.getLong("version");
+                }
+
+                try {
+                    if (expectedVersion != null) {
+                        putVersioned(request, response, out, taskId, taskJson, expectedVersion);
+                        return;
+                    }
 
-                Task updatedTask = taskService.updateTask(task);
+                    // No version to check against: take the current one from the primary, as a
+                    // cached copy may be stale and would turn every retry into a conflict
+                    Task task = taskService.getTaskForUpdate(taskId);
+                    if (task == null) {
+                        response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                        out.print(new JSONObject().put("error", "Task not found").toString());
+                        return;
+                    }
 
-                out.print(toJson(updatedTask).toString());
+                    populateTaskFromJson(task, taskJson);
+                    Task updatedTask = taskService.updateTask(task);
+                    response.setHeader("ETag", taskETag(updatedTask));
+                    new TaskJsonWriter(out).writeTask(updatedTask);
+                } catch (VersionConflictException e) {
+                    response.setStatus(conditional ? HttpServletResponse.SC_PRECONDITION_FAILED
+                            : HttpServletResponse.SC_CONFLICT);
+                    out.print(new JSONObject().put("error", "Task has been modified").toString());
+                }
+
+            } catch (NumberFormatException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                out.print(new JSONObject().put("error", "Invalid task ID").toString());
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                out.print(new JSONObject().put("error", e.getMessage()).toString());
+            } catch (JSONException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                out.print(new JSONObject().put("error", "Invalid JSON format: " + e.getMessage()).toString());
+            }
+
+        } catch (Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            out.print(new JSONObject().put("error", "Server error: " + e.getMessage()).toString());
+        }
+    }
+
+    /**
+     * Replace the fields of a task given in a PUT body with one UPDATE that only applies
+     * to the expected version; fields the body leaves out keep their stored values
+     */
+    private void putVersioned(HttpServletRequest request, HttpServletResponse response, PrintWriter out,
+                              Long taskId, JSONObject taskJson, long expectedVersion) throws IOException {
+        Task parsed = new Task();
+        populateTaskFromJson(parsed, taskJson);
+
+        Map<TaskField, Object> changes = new EnumMap<>(TaskField.class);
+        changes.put(TaskField.TITLE, parsed.getTitle());
+        changes.put(TaskField.DUE_DATE, parsed.getDueDate());
+        if (taskJson.has("description")) {
+            changes.put(TaskField.DESCRIPTION, parsed.getDescription());
+        }
+        if (taskJson.has("status")) {
+            changes.put(TaskField.STATUS, parsed.getStatus());
+        }
+
+        if (!taskService.patchTask(taskId, changes, expectedVersion)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            out.print(new JSONObject().put("error", "Task not found").toString());
+            return;
+        }
+
+        if ("return=representation".equalsIgnoreCase(request.getHeader("Prefer"))) {
+            Task task = taskService.getTaskForUpdate(taskId);
+            if (task != null) {
+                response.setHeader("ETag", taskETag(task));
+                new TaskJsonWriter(out).writeTask(task);
+                return;
+            }
+        }
+
+        response.setHeader("ETag", "\"" + taskId + "-" + (expectedVersion + 1) + "\"");
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+    }
+
+    /**
+     * Dispatch PATCH, which HttpServlet does not know about, to doPatch
+     */
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if ("PATCH".equals(request.getMethod())) {
+            doPatch(request, response);
+        } else {
+            super.service(request, response);
+        }
+    }
+
+    /**
+     * Handle PATCH requests with a JSON Merge Patch (RFC 7396) body:
+     * /api/tasks/{id} - change only the given fields of a task
+     * Answers 204 without reading the task back, unless the client sends
+     * "Prefer: return=representation".
+     */
+    protected void doPatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> {
+            handlePatch(req, resp);
+            return null;
+        });
+    }
+
+    private void handlePatch(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        PrintWriter out = response.getWriter();
+
+        try {
+            String pathInfo = request.getPathInfo();
+
+            if (pathInfo == null || pathInfo.equals("/")) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                out.print(new JSONObject().put("error", "Task ID is required").toString());
+                return;
+            }
+
+            try {
+                Long taskId = Long.parseLong(pathInfo.substring(1));
+
+                String requestBody = request.getReader().lines().collect(Collectors.joining());
+                JSONObject patch = new JSONObject(requestBody);
+
+                // The expected version comes from If-Match or, failing that, the body
+                Long expectedVersion = null;
+                String ifMatch = request.getHeader("If-Match");
+                boolean conditional = ifMatch != null && !ifMatch.trim().equals("*");
+                if (conditional) {
+                    expectedVersion = versionFromETag(ifMatch, taskId);
+                    if (expectedVersion == null) {
+                        response.setStatus(HttpServletResponse.SC_PRECONDITION_FAILED);
+                        out.print(new JSONObject().put("error", "Task has been modified").toString());
+                        return;
+                    }
+                } else if (patch.has("version") && !patch.isNull("version")) {
+                    expectedVersion = patch.getLong("version");
+                }
+
+                Map<TaskField, Object> changes = parseMergePatch(patch);
+
+                try {
+                    if (!taskService.patchTask(taskId, changes, expectedVersion)) {
+                        response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                        out.print(new JSONObject().put("error", "Task not found").toString());
+                        return;
+                    }
+                } catch (VersionConflictException e) {
+                    response.setStatus(conditional ? HttpServletResponse.SC_PRECONDITION_FAILED
+                            : HttpServletResponse.SC_CONFLICT);
+                    out.print(new JSONObject().put("error", "Task has been modified").toString());
+                    return;
+                }
+
+                if ("return=representation".equalsIgnoreCase(request.getHeader("Prefer"))) {
+                    Task task = taskService.getTaskById(taskId);
+                    if (task != null) {
+                        response.setHeader("ETag", taskETag(task));
+                        new TaskJsonWriter(out).writeTask(task);
+                        return;
+                    }
+                }
+
+                // The new version is only known without a read when the old one was
+                if (expectedVersion != null && !changes.isEmpty()) {
+                    response.setHeader("ETag", "\"" + taskId + "-" + (expectedVersion + 1) + "\"");
+                }
+                response.setStatus(HttpServletResponse.SC_NO_CONTENT);
 
             } catch (NumberFormatException e) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -219,6 +534,14 @@ public class TaskRestServlet extends HttpServlet {
     @Override
     protected void doDelete(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> {
+            handleDelete(req, resp);
+            return null;
+        });
+    }
+
+    private void handleDelete(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
 
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
@@ -257,35 +580,365 @@ public class TaskRestServlet extends HttpServlet {
     }
 
     /**
-     * Convert a Task object to JSON
-     * @param task The task to convert
-     * @return JSONObject representing the task
+     * Build the entity tag of a single task from its row version
+     */
+    private String taskETag(Task task) {
+        return "\"" + task.getId() + "-" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Read the expected version out of an If-Match header of task entity tags
+     * @return The version, or null if no tag is a strong tag of this task
+     */
+    private Long versionFromETag(String ifMatch, Long taskId) {
+        String prefix = "\"" + taskId + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags; try the next
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Set the validator headers and answer a conditional GET.
+     * If-None-Match takes precedence over If-Modified-Since, as in RFC 7232.
+     * @param etag The strong entity tag of the current representation
+     * @param lastModified When the representation last changed, in epoch milliseconds,
+     *                     or -1 to send no Last-Modified and ignore If-Modified-Since
+     * @return true if a 304 Not Modified response has been sent and no body should follow
+     */
+    private boolean isNotModified(HttpServletRequest request, HttpServletResponse response,
+                                  String etag, long lastModified) {
+        response.setHeader("ETag", etag);
+        if (lastModified >= 0) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        response.setHeader("Cache-Control", "no-cache");
+
+        boolean notModified;
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            notModified = false;
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                    notModified = true;
+                    break;
+                }
+            }
+        } else if (lastModified >= 0) {
+            long ifModifiedSince;
+            try {
+                ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            } catch (IllegalArgumentException e) {
+                ifModifiedSince = -1;
+            }
+            // HTTP dates have one-second resolution
+            notModified = ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } else {
+            notModified = false;
+        }
+
+        if (notModified) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        return notModified;
+    }
+
+    /**
+     * Apply a batch request of the form {"create": [task...], "update": [task...], "delete": [id...]}.
+     * Each group runs as one batched transaction; items that fail validation are
+     * reported individually and left out of the batch. An update only applies to the
+     * version the task had when read, or to the version given in the item; a task
+     * modified in the meantime is reported with 409 Conflict.
+     * @param batch The request body
+     * @return Per-item results for each group, in request order
+     */
+    private JSONObject processBatch(JSONObject batch) {
+        JSONArray creates = batch.optJSONArray("create");
+        JSONArray updates = batch.optJSONArray("update");
+        JSONArray deletes = batch.optJSONArray("delete");
+
+        int size = (creates == null ? 0 : creates.length())
+                + (updates == null ? 0 : updates.length())
+                + (deletes == null ? 0 : deletes.length());
+        if (size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " items");
+        }
+
+        JSONObject result = new JSONObject();
+        if (creates != null) {
+            result.put("create", processBatchCreate(creates));
+        }
+        if (updates != null) {
+            result.put("update", processBatchUpdate(updates));
+        }
+        if (deletes != null) {
+            result.put("delete", processBatchDelete(deletes));
+        }
+        return result;
+    }
+
+    private JSONArray processBatchCreate(JSONArray items) {
+        JSONObject[] results = new JSONObject[items.length()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < items.length(); i++) {
+            try {
+                Task task = new Task();
+                populateTaskFromJson(task, items.getJSONObject(i));
+                if (!taskService.validateTask(task)) {
+                    throw new IllegalArgumentException("Invalid task data");
+                }
+                tasks.add(task);
+                indexes.add(i);
+            } catch (IllegalArgumentException | JSONException e) {
+                results[i] = itemResult(i, HttpServletResponse.SC_BAD_REQUEST).put("error", e.getMessage());
+            }
+        }
+
+        try {
+            List<Task> created = taskService.createTasks(tasks);
+            for (int j = 0; j < created.size(); j++) {
+                int i = indexes.get(j);
+                results[i] = itemResult(i, HttpServletResponse.SC_CREATED).put("id", created.get(j).getId());
+            }
+        } catch (RuntimeException e) {
+            failAll(results, indexes, e);
+        }
+
+        return new JSONArray(results);
+    }
+
+    private JSONArray processBatchUpdate(JSONArray items) {
+        JSONObject[] results = new JSONObject[items.length()];
+
+        // Load every referenced task with one query
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < items.length(); i++) {
+            JSONObject item = items.optJSONObject(i);
+            if (item != null && item.optLong("id", 0) > 0) {
+                ids.add(item.getLong("id"));
+            }
+        }
+        Map<Long, Task> existing = new HashMap<>();
+        for (Task task : taskService.getTasksByIds(ids)) {
+            existing.put(task.getId(), task);
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < items.length(); i++) {
+            try {
+                JSONObject item = items.getJSONObject(i);
+                long id = item.optLong("id", 0);
+                if (id <= 0) {
+                    throw new IllegalArgumentException("Task ID is required");
+                }
+
+                Task task = existing.get(id);
+                if (task == null) {
+                    results[i] = itemResult(i, HttpServletResponse.SC_NOT_FOUND).put("id", id).put("error", "Task not found");
+                    continue;
+                }
+
+                // The UPDATE only applies to the version read above or given in the item
+                populateTaskFromJson(task, item);
+                if (item.has("version") && !item.isNull("version")) {
+                    task.setVersion(item.getLong("version"));
+                }
+                if (!taskService.validateTask(task)) {
+                    throw new IllegalArgumentException("Invalid task data");
+                }
+                tasks.add(task);
+                indexes.add(i);
+            } catch (IllegalArgumentException | JSONException e) {
+                results[i] = itemResult(i, HttpServletResponse.SC_BAD_REQUEST).put("error", e.getMessage());
+            }
+        }
+
+        try {
+            int[] affectedRows = taskService.updateTasks(tasks);
+            for (int j = 0; j < affectedRows.length; j++) {
+                int i = indexes.get(j);
+                Task task = tasks.get(j);
+                if (affectedRows[j] > 0 || affectedRows[j] == Statement.SUCCESS_NO_INFO) {
+                    results[i] = itemResult(i, HttpServletResponse.SC_OK).put("id", task.getId());
+                } else if (task.getVersion() != null) {
+                    results[i] = itemResult(i, HttpServletResponse.SC_CONFLICT).put("id", task.getId())
+                            .put("error", "Task has been modified");
+                } else {
+                    results[i] = itemResult(i, HttpServletResponse.SC_NOT_FOUND).put("id", task.getId());
+                }
+            }
+        } catch (RuntimeException e) {
+            failAll(results, indexes, e);
+        }
+
+        return new JSONArray(results);
+    }
+
+    private JSONArray processBatchDelete(JSONArray items) {
+        JSONObject[] results = new JSONObject[items.length()];
+        List<Long> ids = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < items.length(); i++) {
+            long id = items.optLong(i, 0);
+            if (id <= 0) {
+                results[i] = itemResult(i, HttpServletResponse.SC_BAD_REQUEST).put("error", "Invalid task ID");
+            } else {
+                ids.add(id);
+                indexes.add(i);
+            }
+        }
+
+        try {
+            int[] affectedRows = taskService.deleteTasks(ids);
+            for (int j = 0; j < affectedRows.length; j++) {
+                int i = indexes.get(j);
+                boolean deleted = affectedRows[j] > 0 || affectedRows[j] == Statement.SUCCESS_NO_INFO;
+                results[i] = itemResult(i, deleted ? HttpServletResponse.SC_NO_CONTENT : HttpServletResponse.SC_NOT_FOUND)
+                        .put("id", ids.get(j));
+            }
+        } catch (RuntimeException e) {
+            failAll(results, indexes, e);
+        }
+
+        return new JSONArray(results);
+    }
+
+    private JSONObject itemResult(int index, int status) {
+        return new JSONObject().put("index", index).put("status", status);
+    }
+
+    /**
+     * Mark every item of a rolled-back batch as failed
+     */
+    private void failAll(JSONObject[] results, List<Integer> indexes, RuntimeException e) {
+        for (int i : indexes) {
+            results[i] = itemResult(i, HttpServletResponse.SC_INTERNAL_SERVER_ERROR).put("error", "Server error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Convert dashboard counts to JSON
+     * @param summary The summary to convert
+     * @return JSONObject representing the summary
      */
-    private JSONObject toJson(Task task) {
+    private JSONObject toJson(DashboardSummary summary) {
+        JSONObject counts = new JSONObject();
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status.name(), summary.getCount(status));
+        }
+
         JSONObject json = new JSONObject();
-        json.put("id", task.getId());
-        json.put("title", task.getTitle());
-        json.put("description", task.getDescription() != null ? task.getDescription() : "");
-        json.put("dueDate", DateUtil.formatDate(task.getDueDate()));
-        json.put("status", task.getStatus().name());
-        json.put("createdAt", DateUtil.formatDateTime(task.getCreatedAt()));
-        json.put("updatedAt", DateUtil.formatDateTime(task.getUpdatedAt()));
+        json.put("counts", counts);
+        json.put("total", summary.getTotalCount());
+        json.put("overdue", summary.getOverdueCount());
+        json.put("dueToday", summary.getDueTodayCount());
+        json.put("completionRate", summary.getCompletionRate());
         return json;
     }
 
     /**
-     * Convert a list of Task objects to JSON array
-     * @param tasks The tasks to convert
-     * @return JSON array string
+     * Write a page of tasks as {"tasks": [...], "nextCursor": ...}
+     * @param out The response writer
+     * @param page The page to write
      */
-    private String toJsonArray(List<Task> tasks) {
-        JSONArray jsonArray = new JSONArray();
+    private void writePage(PrintWriter out, TaskPage page, Set<TaskField> fields) throws IOException {
+        out.write("{\"tasks\":");
+        new TaskJsonWriter(out, fields).writeArray(page.getTasks());
+        out.write(",\"nextCursor\":");
+        if (page.hasNext()) {
+            JSONObject.quote(page.getNextCursor(), out);
+        } else {
+            out.write("null");
+        }
+        out.write('}');
+    }
 
-        for (Task task : tasks) {
-            jsonArray.put(toJson(task));
+    /**
+     * Apply a bulk status change of the form
+     * {"status": "COMPLETED", "filter": {"status": "IN_PROGRESS", "dueBefore": "2024-01-31"}}.
+     * The filter also accepts "dueAfter", and "overdue": true for tasks due before today.
+     * @param transition The request body
+     * @return The number of tasks changed, as {"updated": n}
+     */
+    private JSONObject processTransition(JSONObject transition) throws IllegalArgumentException, JSONException {
+        TaskStatus status = parseStatus(transition.getString("status"));
+        JSONObject filterJson = transition.getJSONObject("filter");
+
+        TaskStatus fromStatus = filterJson.has("status") ? parseStatus(filterJson.getString("status")) : null;
+        Date dueBefore = filterJson.has("dueBefore") ? parseFilterDate(filterJson.getString("dueBefore")) : null;
+        Date dueAfter = filterJson.has("dueAfter") ? parseFilterDate(filterJson.getString("dueAfter")) : null;
+        if (filterJson.optBoolean("overdue")) {
+            Date today = DateUtil.today();
+            dueBefore = dueBefore == null || today.before(dueBefore) ? today : dueBefore;
         }
 
-        return jsonArray.toString();
+        int updated = taskService.transitionTasks(new TaskFilter(fromStatus, dueBefore, dueAfter), status);
+        return new JSONObject().put("updated", updated);
+    }
+
+    private TaskStatus parseStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private Date parseFilterDate(String date) {
+        Date parsed = DateUtil.parseDate(date);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Invalid date format. Use yyyy-MM-dd");
+        }
+        return parsed;
+    }
+
+    /**
+     * Turn a JSON Merge Patch into the changed task fields.
+     * A null member clears the field; read-only members are ignored.
+     * @param patch The request body
+     * @return The new value of each changed field
+     */
+    private Map<TaskField, Object> parseMergePatch(JSONObject patch) throws IllegalArgumentException, JSONException {
+        Map<TaskField, Object> changes = new EnumMap<>(TaskField.class);
+
+        for (String name : patch.keySet()) {
+            TaskField field = TaskField.forJsonName(name);
+            boolean cleared = patch.isNull(name);
+
+            switch (field) {
+                case TITLE:
+                case DESCRIPTION:
+                    changes.put(field, cleared ? null : patch.getString(name));
+                    break;
+                case DUE_DATE:
+                    Date dueDate = cleared ? null : DateUtil.parseDate(patch.getString(name));
+                    if (!cleared && dueDate == null) {
+                        throw new IllegalArgumentException("Invalid due date format. Use yyyy-MM-dd");
+                    }
+                    changes.put(field, dueDate);
+                    break;
+                case STATUS:
+                    changes.put(field, cleared ? null : parseStatus(patch.getString(name)));
+                    break;
+                default:
+                    // id, createdAt, updatedAt and version cannot be changed
+                    break;
+            }
+        }
+        return changes;
     }
 
     /**
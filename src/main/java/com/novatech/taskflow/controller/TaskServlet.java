@@ -1,5 +1,6 @@
 package com.novatech.taskflow.controller;
 
+import com.novatech.taskflow.dao.VersionConflictException;
 import com.novatech.taskflow.model.Task;
 import com.novatech.taskflow.model.TaskStatus;
 import com.novatech.taskflow.service.TaskService;
@@ -21,7 +22,7 @@ import java.util.List;
 /**
  * Servlet handling task CRUD operations for web interface
  */
-@WebServlet("/tasks/*")
+@WebServlet(urlPatterns = "/tasks/*", asyncSupported = true)
 public class TaskServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
@@ -45,7 +46,14 @@ public class TaskServlet extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> handleGet(req, resp));
+    }
 
+    /**
+     * Handle a GET request
+     * @return The view to render, or null if the response has been sent
+     */
+    private String handleGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
         String pathInfo = request.getPathInfo();
         String contextPath = request.getContextPath();
 
@@ -54,8 +62,7 @@ public class TaskServlet extends HttpServlet {
             if (pathInfo != null && !pathInfo.equals("/")) {
                 if (pathInfo.equals("/new")) {
                     // Show new task form
-                    request.getRequestDispatcher("/WEB-INF/views/task-form.jsp").forward(request, response);
-                    return;
+                    return "/WEB-INF/views/task-form.jsp";
                 }
 
                 // Path format: /{id} or /{id}/edit
@@ -68,22 +75,19 @@ public class TaskServlet extends HttpServlet {
 
                         if (task == null) {
                             response.sendError(HttpServletResponse.SC_NOT_FOUND, "Task not found");
-                            return;
+                            return null;
                         }
 
+                        request.setAttribute("task", task);
                         if (pathParts.length == 3 && pathParts[2].equals("edit")) {
                             // Show edit form
-                            request.setAttribute("task", task);
-                            request.getRequestDispatcher("/WEB-INF/views/task-form.jsp").forward(request, response);
-                        } else {
-                            // Show task details
-                            request.setAttribute("task", task);
-                            request.getRequestDispatcher("/WEB-INF/views/task-list.jsp").forward(request, response);
+                            return "/WEB-INF/views/task-form.jsp";
                         }
-                        return;
+                        // Show task details
+                        return "/WEB-INF/views/task-list.jsp";
                     } catch (NumberFormatException e) {
                         response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid task ID");
-                        return;
+                        return null;
                     }
                 }
             }
@@ -95,21 +99,22 @@ public class TaskServlet extends HttpServlet {
             if (statusParam != null && !statusParam.isEmpty()) {
                 try {
                     TaskStatus status = TaskStatus.valueOf(statusParam.toUpperCase());
-                    tasks = taskService.getTasksByStatus(status);
+                    tasks = taskService.getTaskSummaries(status);
                     request.setAttribute("filteredStatus", status);
                 } catch (IllegalArgumentException e) {
-                    tasks = taskService.getAllTasks();
+                    tasks = taskService.getTaskSummaries(null);
                 }
             } else {
-                tasks = taskService.getAllTasks();
+                // The list view only shows the start of each description
+                tasks = taskService.getTaskSummaries(null);
             }
 
             request.setAttribute("tasks", tasks);
-            request.getRequestDispatcher("/WEB-INF/views/task-list.jsp").forward(request, response);
+            return "/WEB-INF/views/task-list.jsp";
 
         } catch (Exception e) {
             request.setAttribute("errorMessage", "Error retrieving tasks: " + e.getMessage());
-            request.getRequestDispatcher("/WEB-INF/views/error.jsp").forward(request, response);
+            return "/WEB-INF/views/error.jsp";
         }
     }
 
@@ -123,7 +128,14 @@ public class TaskServlet extends HttpServlet {
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
+        AsyncDispatcher.execute(request, response, (req, resp) -> handlePost(req, resp));
+    }
 
+    /**
+     * Handle a POST request
+     * @return The view to render, or null if the response has been sent
+     */
+    private String handlePost(HttpServletRequest request, HttpServletResponse response) throws IOException {
         String pathInfo = request.getPathInfo();
         String action = request.getParameter("action");
         String contextPath = request.getContextPath();
@@ -142,13 +154,16 @@ public class TaskServlet extends HttpServlet {
                             String actionPath = pathParts[2];
 
                             if ("complete".equals(actionPath)) {
-                                taskService.markTaskAsCompleted(taskId);
+                                if (!taskService.markTaskAsCompleted(taskId)) {
+                                    response.sendError(HttpServletResponse.SC_NOT_FOUND, "Task not found");
+                                    return null;
+                                }
                                 response.sendRedirect(contextPath + "/tasks");
-                                return;
+                                return null;
                             } else if ("delete".equals(actionPath)) {
                                 taskService.deleteTask(taskId);
                                 response.sendRedirect(contextPath + "/tasks");
-                                return;
+                                return null;
                             }
                         }
 
@@ -157,21 +172,24 @@ public class TaskServlet extends HttpServlet {
 
                         if (task == null) {
                             response.sendError(HttpServletResponse.SC_NOT_FOUND, "Task not found");
-                            return;
+                            return null;
                         }
 
                         populateTaskFromRequest(task, request);
                         taskService.updateTask(task);
                         response.sendRedirect(contextPath + "/tasks");
-                        return;
+                        return null;
 
                     } catch (NumberFormatException e) {
                         response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid task ID");
-                        return;
+                        return null;
                     } catch (IllegalArgumentException e) {
                         request.setAttribute("errorMessage", e.getMessage());
-                        request.getRequestDispatcher("/WEB-INF/views/error.jsp").forward(request, response);
-                        return;
+                        return "/WEB-INF/views/error.jsp";
+                    } catch (VersionConflictException e) {
+                        request.setAttribute("errorMessage",
+                                "This task was changed by someone else while you were editing it. Reload it and try again.");
+                        return "/WEB-INF/views/error.jsp";
                     }
                 }
             }
@@ -181,13 +199,14 @@ public class TaskServlet extends HttpServlet {
             populateTaskFromRequest(task, request);
             taskService.createTask(task);
             response.sendRedirect(contextPath + "/tasks");
+            return null;
 
         } catch (IllegalArgumentException e) {
             request.setAttribute("errorMessage", e.getMessage());
-            request.getRequestDispatcher("/WEB-INF/views/error.jsp").forward(request, response);
+            return "/WEB-INF/views/error.jsp";
         } catch (Exception e) {
             request.setAttribute("errorMessage", "Error processing task: " + e.getMessage());
-            request.getRequestDispatcher("/WEB-INF/views/error.jsp").forward(request, response);
+            return "/WEB-INF/views/error.jsp";
         }
     }
 
@@ -202,6 +221,7 @@ public class TaskServlet extends HttpServlet {
         String description = request.getParameter("description");
         String dueDateStr = request.getParameter("dueDate");
         String statusStr = request.getParameter("status");
+        String versionStr = request.getParameter("version");
 
         // Validate required fields
         if (ValidationUtil.isEmpty(title)) {
@@ -223,6 +243,15 @@ public class TaskServlet extends HttpServlet {
         task.setDescription(description);
         task.setDueDate(dueDate);
 
+        // The version the form was rendered from, so a concurrent edit is not silently overwritten
+        if (!ValidationUtil.isEmpty(versionStr)) {
+            try {
+                task.setVersion(Long.parseLong(versionStr));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid task version");
+            }
+        }
+
         // Set status if provided
         if (statusStr != null && !statusStr.isEmpty()) {
             try {
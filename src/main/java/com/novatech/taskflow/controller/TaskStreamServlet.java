@@ -0,0 +1,167 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.model.TaskEvent;
+import com.novatech.taskflow.service.TaskEventBroadcaster;
+import com.novatech.taskflow.util.TaskJsonWriter;
+import org.json.JSONObject;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Sent Events feed of task changes:
+ * /api/tasks/stream - push create/update/complete/delete events as they happen
+ *
+ * Clients resume after a reconnect by sending the Last-Event-ID header
+ * (or a lastEventId query parameter). A "reset" event means events were
+ * missed and the client should reload its data.
+ */
+@WebServlet(urlPatterns = "/api/tasks/stream", asyncSupported = true)
+public class TaskStreamServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final long HEARTBEAT_SECONDS = AppConfig.getLong("events.heartbeatSeconds", 15);
+    private final TaskEventBroadcaster broadcaster;
+
+    /**
+     * Constructor using the shared broadcaster
+     */
+    public TaskStreamServlet() {
+        this.broadcaster = TaskEventBroadcaster.getInstance();
+    }
+
+    /**
+     * Open an event stream for the client
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String lastEventId = request.getHeader("Last-Event-ID");
+        if (lastEventId == null) {
+            lastEventId = request.getParameter("lastEventId");
+        }
+
+        TaskEventBroadcaster.Subscription subscription;
+        try {
+            subscription = broadcaster.subscribe(lastEventId);
+        } catch (IllegalStateException e) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+            return;
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(0);
+
+        // The stream thread only writes through a guarded response: once the container has
+        // completed the request (client reset, error), its writes fail instead of reaching a
+        // response that may already serve another client
+        RequestGuard guard = new RequestGuard(request, response);
+        PrintWriter out = guard.response().getWriter();
+
+        // One virtual thread per subscriber; it spends nearly all its time parked in poll()
+        Thread streamer = Thread.ofVirtual().name("taskflow-sse").unstarted(() -> {
+            try {
+                out.write("retry: 5000\n\n");
+                out.flush();
+
+                while (!subscription.isClosed() && !out.checkError()) {
+                    TaskEvent event = subscription.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                    if (event != null) {
+                        writeEvent(out, event);
+                    } else {
+                        // Comment line keeps proxies from closing an idle connection
+                        out.write(": keep-alive\n\n");
+                    }
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                // Woken by the listener below: the request is already finished
+            } catch (IOException | RuntimeException e) {
+                // Client disconnected or the response was closed
+            } finally {
+                subscription.close();
+                try {
+                    guard.finish(asyncContext::complete);
+                } catch (IOException | IllegalStateException ignored) {
+                    // Already completed by the container
+                }
+            }
+        });
+
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) throws IOException {
+                stop(guard.finish(() -> { }));
+            }
+
+            @Override
+            public void onError(AsyncEvent event) throws IOException {
+                stop(guard.finish(asyncContext::complete));
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                stop(guard.finish(asyncContext::complete));
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+
+            /**
+             * Close the subscription and wake the stream thread if the container finished the request
+             */
+            private void stop(boolean finishedByContainer) {
+                subscription.close();
+                if (finishedByContainer) {
+                    streamer.interrupt();
+                }
+            }
+        });
+
+        streamer.start();
+    }
+
+    /**
+     * Write one event in text/event-stream format
+     */
+    private void writeEvent(PrintWriter out, TaskEvent event) throws IOException {
+        out.write("id: ");
+        out.write(event.getId());
+        out.write("\nevent: ");
+        out.write(event.getType().name().toLowerCase());
+        out.write("\ndata: {\"type\":");
+        JSONObject.quote(event.getType().name(), out);
+        out.write(",\"taskIds\":[");
+        for (int i = 0; i < event.getTaskIds().size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(String.valueOf(event.getTaskIds().get(i)));
+        }
+        out.write(']');
+        if (event.getTask() != null) {
+            out.write(",\"task\":");
+            new TaskJsonWriter(out).writeTask(event.getTask());
+        }
+        out.write(",\"timestamp\":");
+        out.write(String.valueOf(event.getTimestamp()));
+        out.write("}\n\n");
+    }
+}
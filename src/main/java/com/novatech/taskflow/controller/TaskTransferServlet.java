@@ -0,0 +1,362 @@
+package com.novatech.taskflow.controller;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskStatus;
+import com.novatech.taskflow.service.TaskService;
+import com.novatech.taskflow.service.TaskServiceImpl;
+import com.novatech.taskflow.util.DateUtil;
+import com.novatech.taskflow.util.TaskCsvReader;
+import com.novatech.taskflow.util.TaskCsvWriter;
+import com.novatech.taskflow.util.TaskJsonWriter;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulk transfer of tasks:
+ * /api/tasks/export?format={ndjson|csv}&status={status} - stream every task, one per line
+ * /api/tasks/export?includeArchived=true - also stream archived tasks, after the live ones
+ * /api/tasks/import?format={ndjson|csv} - insert the tasks of an export in batches
+ *
+ * Both directions hold one row (plus one import batch) in memory at a time: exports read
+ * through a forward-only cursor and write each row as it arrives, imports parse the body
+ * record by record. Imported tasks get new IDs and keep their status and timestamps.
+ */
+@WebServlet(urlPatterns = {"/api/tasks/export", "/api/tasks/import"}, asyncSupported = true)
+public class TaskTransferServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final String EXPORT_PATH = "/api/tasks/export";
+    private static final String IMPORT_PATH = "/api/tasks/import";
+    private static final String NDJSON = "ndjson";
+    private static final String CSV = "csv";
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int IMPORT_BATCH_SIZE = AppConfig.getInt("transfer.importBatchSize", 1000);
+    private static final long TIMEOUT_MS = AppConfig.getLong("transfer.timeoutMs", 0);
+    // Transfers run for minutes, so they get their own permits rather than the ones of ordinary requests
+    private static final Semaphore PERMITS = new Semaphore(AppConfig.getInt("transfer.maxConcurrency", 2), true);
+    private final TaskService taskService;
+
+    /**
+     * Constructor initializing the task service
+     */
+    public TaskTransferServlet() {
+        this.taskService = new TaskServiceImpl();
+    }
+
+    /**
+     * Handle GET /api/tasks/export
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!EXPORT_PATH.equals(request.getServletPath())) {
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        AsyncDispatcher.execute(request, response, TIMEOUT_MS, PERMITS, (req, resp) -> {
+            handleExport(req, resp);
+            return null;
+        });
+    }
+
+    /**
+     * Handle POST /api/tasks/import
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        if (!IMPORT_PATH.equals(request.getServletPath())) {
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+        AsyncDispatcher.execute(request, response, TIMEOUT_MS, PERMITS, (req, resp) -> {
+            handleImport(req, resp);
+            return null;
+        });
+    }
+
+    private void handleExport(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String format = request.getParameter("format");
+        if (format == null || format.trim().isEmpty()) {
+            format = NDJSON;
+        }
+
+        if (!NDJSON.equalsIgnoreCase(format) && !CSV.equalsIgnoreCase(format)) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Unknown format: " + format + ". Use ndjson or csv");
+            return;
+        }
+
+        TaskStatus status = null;
+        String statusParam = request.getParameter("status");
+        if (statusParam != null && !statusParam.isEmpty()) {
+            try {
+                status = TaskStatus.valueOf(statusParam.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid status: " + statusParam);
+                return;
+            }
+        }
+
+        boolean includeArchived = Boolean.parseBoolean(request.getParameter("includeArchived"));
+        boolean csv = CSV.equalsIgnoreCase(format);
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"tasks." + (csv ? CSV : NDJSON) + "\"");
+        response.setHeader("Cache-Control", "no-store");
+        PrintWriter out = response.getWriter();
+
+        try {
+            if (csv) {
+                TaskCsvWriter writer = new TaskCsvWriter(out);
+                writer.writeHeader();
+                taskService.forEachTask(status, TaskField.ALL, includeArchived, task -> {
+                    try {
+                        writer.writeTask(task);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } else {
+                TaskJsonWriter writer = new TaskJsonWriter(out);
+                taskService.forEachTask(status, TaskField.ALL, includeArchived, task -> {
+                    try {
+                        writer.writeTask(task);
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                // Part of the export has been sent, so no error status can follow. The exception
+                // makes the container abort the connection (through AsyncDispatcher when async),
+                // which the client sees as a truncated transfer rather than a short, complete one
+                throw new ServletException("Error streaming export: " + e.getMessage(), e);
+            }
+            response.reset();
+            writeError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Server error: " + e.getMessage());
+        }
+    }
+
+    private void handleImport(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        String format = request.getParameter("format");
+        if (format == null || format.trim().isEmpty()) {
+            String contentType = request.getContentType();
+            format = contentType != null && contentType.toLowerCase().contains(CSV) ? CSV : NDJSON;
+        }
+        if (!NDJSON.equalsIgnoreCase(format) && !CSV.equalsIgnoreCase(format)) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Unknown format: " + format + ". Use ndjson or csv");
+            return;
+        }
+
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding("UTF-8");
+        }
+
+        ImportResult result = new ImportResult();
+        int status = HttpServletResponse.SC_OK;
+        try {
+            if (CSV.equalsIgnoreCase(format)) {
+                importCsv(request.getReader(), result);
+            } else {
+                importNdjson(request.getReader(), result);
+            }
+            result.flush();
+        } catch (IllegalArgumentException e) {
+            // The body cannot be parsed past this point; the batches before it stay imported
+            status = HttpServletResponse.SC_BAD_REQUEST;
+            result.json.put("error", e.getMessage());
+        } catch (RuntimeException e) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            result.json.put("error", "Server error: " + e.getMessage());
+        }
+
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().print(result.json.put("imported", result.imported).put("skipped", result.skipped).toString());
+    }
+
+    private void importNdjson(Reader in, ImportResult result) throws IOException {
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+
+        while (readLine(in, line)) {
+            lineNumber++;
+            if (line.toString().trim().isEmpty()) {
+                continue;
+            }
+            try {
+                result.add(taskFromRecord(new JSONObject(line.toString())));
+            } catch (IllegalArgumentException | JSONException e) {
+                result.skip(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void importCsv(Reader in, ImportResult result) throws IOException {
+        TaskCsvReader reader = new TaskCsvReader(in, MAX_RECORD_LENGTH);
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            long lineNumber = reader.getRecordLine();
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            try {
+                if (record.size() != header.size()) {
+                    throw new IllegalArgumentException("Expected " + header.size() + " columns but got " + record.size());
+                }
+                JSONObject json = new JSONObject();
+                for (int i = 0; i < header.size(); i++) {
+                    if (!record.get(i).isEmpty()) {
+                        json.put(header.get(i).trim(), record.get(i));
+                    }
+                }
+                result.add(taskFromRecord(json));
+            } catch (IllegalArgumentException | JSONException e) {
+                result.skip(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read one line into the buffer without its line break
+     * @return false at the end of the input
+     */
+    private static boolean readLine(Reader in, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = in.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                if (line.length() >= MAX_RECORD_LENGTH) {
+                    throw new IllegalArgumentException("Line is longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                line.append((char) c);
+            }
+            c = in.read();
+        }
+        return true;
+    }
+
+    /**
+     * Build a task from one exported record; the id and version are ignored
+     */
+    private Task taskFromRecord(JSONObject json) {
+        Task task = new Task();
+
+        String title = json.optString("title", "");
+        if (title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        task.setTitle(title);
+
+        String description = json.optString("description", "");
+        task.setDescription(description.isEmpty() ? null : description);
+
+        Date dueDate = DateUtil.parseDate(json.optString("dueDate", null));
+        if (dueDate == null) {
+            throw new IllegalArgumentException("Missing or invalid due date. Use yyyy-MM-dd");
+        }
+        task.setDueDate(dueDate);
+
+        String status = json.optString("status", "");
+        if (!status.isEmpty()) {
+            try {
+                task.setStatus(TaskStatus.valueOf(status.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status);
+            }
+        }
+
+        task.setCreatedAt(parseTimestamp(json, "createdAt"));
+        task.setUpdatedAt(parseTimestamp(json, "updatedAt"));
+
+        if (!taskService.validateImportedTask(task)) {
+            throw new IllegalArgumentException("Invalid task data");
+        }
+        return task;
+    }
+
+    private static Date parseTimestamp(JSONObject json, String name) {
+        String value = json.optString(name, "");
+        if (value.isEmpty()) {
+            return null;
+        }
+        Date parsed = DateUtil.parseDateTime(value);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Invalid " + name + ". Use yyyy-MM-dd HH:mm:ss");
+        }
+        return parsed;
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().print(new JSONObject().put("error", message).toString());
+    }
+
+    /**
+     * Progress of one import: the pending batch, counts and the first rejected rows
+     */
+    private final class ImportResult {
+        private final List<Task> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        private final JSONArray errors = new JSONArray();
+        private final JSONObject json = new JSONObject().put("errors", errors);
+        private long imported;
+        private long skipped;
+
+        private void add(Task task) {
+            batch.add(task);
+            if (batch.size() >= IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void skip(long line, String message) {
+            skipped++;
+            if (errors.length() < MAX_REPORTED_ERRORS) {
+                errors.put(new JSONObject().put("line", line).put("error", message));
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            imported += taskService.importTasks(batch).size();
+            batch.clear();
+        }
+    }
+}
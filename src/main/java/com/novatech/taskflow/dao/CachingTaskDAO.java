@@ -0,0 +1,390 @@
+package com.novatech.taskflow.dao;
+
+import com.novatech.taskflow.model.DashboardSummary;
+import com.novatech.taskflow.model.PageCursor;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
+import com.novatech.taskflow.model.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * TaskDAO decorator that caches getById lookups in a bounded map with a TTL.
+ * Lookups never block each other: the map is a ConcurrentHashMap and each entry
+ * records when it was last read. When the map grows past its bound, one thread
+ * drops expired entries and then the least recently read ones, giving an
+ * approximate LRU. Entries are invalidated by writes made through this DAO.
+ * Callers always receive a copy, so mutating a returned task never changes the
+ * cached one.
+ */
+public class CachingTaskDAO implements TaskDAO {
+
+    private final TaskDAO delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Eviction trims the map to this size so it does not run on every insert
+    private final int trimSize;
+
+    private final ConcurrentHashMap<Long, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Constructor
+     * @param delegate The DAO that reads from the database
+     * @param maxSize The maximum number of cached tasks
+     * @param ttlSeconds How long a cached task stays valid
+     */
+    public CachingTaskDAO(TaskDAO delegate, int maxSize, long ttlSeconds) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.trimSize = maxSize - Math.max(1, maxSize / 10);
+    }
+
+    /**
+     * Get a task by its ID, from the cache when possible
+     */
+    @Override
+    public Task getById(Long id) {
+        CacheEntry entry = entries.get(id);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (now - entry.loadedAt < ttlNanos) {
+                entry.lastReadAt = now;
+                hits.increment();
+                return new Task(entry.task);
+            }
+            if (entries.remove(id, entry)) {
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        long invalidationsBeforeLoad = invalidations.get();
+        Task task = delegate.getById(id);
+
+        if (task != null && invalidations.get() == invalidationsBeforeLoad) {
+            CacheEntry loaded = new CacheEntry(new Task(task), System.nanoTime());
+            entries.put(id, loaded);
+            // An invalidation that landed between the check and the put may have missed it
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                entries.remove(id, loaded);
+            } else if (entries.size() > maxSize) {
+                evict();
+            }
+        }
+
+        return task;
+    }
+
+    /**
+     * Drop expired entries, then the least recently read ones, until the map is
+     * back under its bound. Only one thread trims at a time; the others carry on.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<Map.Entry<Long, CacheEntry>> live = new ArrayList<>(entries.size());
+            for (Map.Entry<Long, CacheEntry> e : entries.entrySet()) {
+                if (now - e.getValue().loadedAt >= ttlNanos) {
+                    if (entries.remove(e.getKey(), e.getValue())) {
+                        expirations.increment();
+                    }
+                } else {
+                    live.add(e);
+                }
+            }
+
+            int excess = entries.size() - trimSize;
+            if (excess <= 0) {
+                return;
+            }
+            live.sort(Comparator.comparingLong(e -> e.getValue().lastReadAt));
+            for (int i = 0; i < live.size() && excess > 0; i++) {
+                Map.Entry<Long, CacheEntry> e = live.get(i);
+                if (entries.remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Update a task and drop its cached copy
+     */
+    @Override
+    public Task update(Task task) {
+        try {
+            return delegate.update(task);
+        } finally {
+            invalidate(task.getId());
+        }
+    }
+
+    /**
+     * Change a task's status and drop its cached copy
+     */
+    @Override
+    public boolean updateStatus(Long id, TaskStatus status) {
+        try {
+            return delegate.updateStatus(id, status);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Update some columns of a task and drop its cached copy
+     */
+    @Override
+    public boolean patch(Long id, Map<TaskField, Object> changes, Long expectedVersion) {
+        try {
+            return delegate.patch(id, changes, expectedVersion);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Change the status of every matching task and drop the whole cache,
+     * which is cheaper than invalidating the changed tasks one by one
+     */
+    @Override
+    public List<Long> updateStatusWhere(TaskFilter filter, TaskStatus status) {
+        try {
+            return delegate.updateStatusWhere(filter, status);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Move finished tasks to the archive and drop their cached copies
+     */
+    @Override
+    public List<Long> archiveFinished(Date finishedBefore, int limit) {
+        List<Long> ids = delegate.archiveFinished(finishedBefore, limit);
+        for (Long id : ids) {
+            invalidate(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Delete a task and drop its cached copy
+     */
+    @Override
+    public boolean delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Update several tasks and drop their cached copies
+     */
+    @Override
+    public int[] updateAll(List<Task> tasks) {
+        try {
+            return delegate.updateAll(tasks);
+        } finally {
+            for (Task task : tasks) {
+                invalidate(task.getId());
+            }
+        }
+    }
+
+    /**
+     * Delete several tasks and drop their cached copies
+     */
+    @Override
+    public int[] deleteAll(List<Long> ids) {
+        try {
+            return delegate.deleteAll(ids);
+        } finally {
+            for (Long id : ids) {
+                invalidate(id);
+            }
+        }
+    }
+
+    /**
+     * Remove one task from the cache
+     * @param id The task ID
+     */
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        entries.remove(id);
+    }
+
+    /**
+     * Remove every task from the cache
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Get hit, miss and eviction counts
+     * @return A snapshot of the cache statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    // Reads other than getById and inserts go straight to the delegate
+
+    @Override
+    public Task getById(Long id, boolean includeArchived) {
+        Task task = getById(id);
+        if (task != null || !includeArchived) {
+            return task;
+        }
+        return delegate.getById(id, true);
+    }
+
+    @Override
+    public Task getLatestById(Long id) {
+        return delegate.getLatestById(id);
+    }
+
+    @Override
+    public Task create(Task task) {
+        return delegate.create(task);
+    }
+
+    @Override
+    public List<Task> createAll(List<Task> tasks) {
+        return delegate.createAll(tasks);
+    }
+
+    @Override
+    public List<Task> getByIds(Collection<Long> ids) {
+        return delegate.getByIds(ids);
+    }
+
+    @Override
+    public List<Task> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public List<Task> getByStatus(TaskStatus status) {
+        return delegate.getByStatus(status);
+    }
+
+    @Override
+    public List<Task> getByDueDateBefore(Date date) {
+        return delegate.getByDueDateBefore(date);
+    }
+
+    @Override
+    public List<Task> getAllSortedByDueDate() {
+        return delegate.getAllSortedByDueDate();
+    }
+
+    @Override
+    public List<Task> getOverdue(Date cutoff) {
+        return delegate.getOverdue(cutoff);
+    }
+
+    @Override
+    public List<Task> getOverdue(Date cutoff, int limit) {
+        return delegate.getOverdue(cutoff, limit);
+    }
+
+    @Override
+    public List<Task> getDueBetween(Date start, Date end) {
+        return delegate.getDueBetween(start, end);
+    }
+
+    @Override
+    public List<Task> getDueBetween(Date start, Date end, int limit) {
+        return delegate.getDueBetween(start, end, limit);
+    }
+
+    @Override
+    public DashboardSummary getSummary(Date overdueCutoff, Date dueStart, Date dueEnd) {
+        return delegate.getSummary(overdueCutoff, dueStart, dueEnd);
+    }
+
+    @Override
+    public String getChangeTag() {
+        return delegate.getChangeTag();
+    }
+
+    @Override
+    public List<Task> getPage(TaskStatus status, PageCursor after, int limit) {
+        return delegate.getPage(status, after, limit);
+    }
+
+    @Override
+    public List<Task> getPage(TaskStatus status, PageCursor after, int limit, Set<TaskField> fields) {
+        return delegate.getPage(status, after, limit, fields);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Consumer<Task> action) {
+        delegate.forEach(status, action);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Set<TaskField> fields, Consumer<Task> action) {
+        delegate.forEach(status, fields, action);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Set<TaskField> fields, boolean includeArchived, Consumer<Task> action) {
+        delegate.forEach(status, fields, includeArchived, action);
+    }
+
+    @Override
+    public List<Task> getSummaries(TaskStatus status, int descriptionLength) {
+        return delegate.getSummaries(status, descriptionLength);
+    }
+
+    /**
+     * A cached task, the time it was loaded and the time it was last read
+     */
+    private static final class CacheEntry {
+        private final Task task;
+        private final long loadedAt;
+        private volatile long lastReadAt;
+
+        private CacheEntry(Task task, long loadedAt) {
+            this.task = task;
+            this.loadedAt = loadedAt;
+            this.lastReadAt = loadedAt;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.novatech.taskflow.dao;
 
+import com.novatech.taskflow.model.DashboardSummary;
+import com.novatech.taskflow.model.PageCursor;
 import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
 import com.novatech.taskflow.model.TaskStatus;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object interface for Task operations
@@ -25,6 +33,21 @@ public interface TaskDAO {
      */
     Task getById(Long id);
 
+    /**
+     * Get a task by its ID, looking in the archive if it is no longer live
+     * @param id The task ID
+     * @param includeArchived Whether to also look in tasks_archive
+     * @return The task or null if not found
+     */
+    Task getById(Long id, boolean includeArchived);
+
+    /**
+     * Get a task as last committed on the primary database, bypassing any cache
+     * @param id The task ID
+     * @return The task or null if not found
+     */
+    Task getLatestById(Long id);
+
     /**
      * Get all tasks
      * @return List of all tasks
@@ -38,6 +61,33 @@ public interface TaskDAO {
      */
     Task update(Task task);
 
+    /**
+     * Change the status of a task without reading it first
+     * @param id The task ID
+     * @param status The new status
+     * @return true if updated, false if not found
+     */
+    boolean updateStatus(Long id, TaskStatus status);
+
+    /**
+     * Update only the given columns of a task, without reading it first
+     * @param id The task ID
+     * @param changes The new values of the changed fields: title, description, dueDate or status
+     * @param expectedVersion The version the change applies to, or null for any version
+     * @return true if updated, false if not found
+     * @throws VersionConflictException if the task exists with a different version
+     */
+    boolean patch(Long id, Map<TaskField, Object> changes, Long expectedVersion);
+
+    /**
+     * Move every task matching a filter to a new status in one transaction.
+     * Tasks already in the new status are left untouched.
+     * @param filter The tasks to change
+     * @param status The new status
+     * @return The IDs of the changed tasks
+     */
+    List<Long> updateStatusWhere(TaskFilter filter, TaskStatus status);
+
     /**
      * Delete a task by its ID
      * @param id The task ID to delete
@@ -64,4 +114,147 @@ public interface TaskDAO {
      * @return List of tasks sorted by due date
      */
     List<Task> getAllSortedByDueDate();
-}
\ No newline at end of file
+
+    /**
+     * Get tasks that are not completed and due before a cutoff
+     * @param cutoff Tasks due strictly before this instant are overdue (normally the start of today)
+     * @return List of overdue tasks sorted by due date
+     */
+    List<Task> getOverdue(Date cutoff);
+
+    /**
+     * Get at most limit tasks that are not completed and due before a cutoff
+     * @param cutoff Tasks due strictly before this instant are overdue
+     * @param limit The maximum number of tasks to return
+     * @return List of the earliest overdue tasks
+     */
+    List<Task> getOverdue(Date cutoff, int limit);
+
+    /**
+     * Get tasks that are not completed and due within a range
+     * @param start The inclusive start of the range
+     * @param end The exclusive end of the range
+     * @return List of matching tasks sorted by due date
+     */
+    List<Task> getDueBetween(Date start, Date end);
+
+    /**
+     * Get at most limit tasks that are not completed and due within a range
+     * @param start The inclusive start of the range
+     * @param end The exclusive end of the range
+     * @param limit The maximum number of tasks to return
+     * @return List of the earliest matching tasks
+     */
+    List<Task> getDueBetween(Date start, Date end, int limit);
+
+    /**
+     * Count tasks per status, plus open tasks that are overdue or due in a range, in one query
+     * @param overdueCutoff Open tasks due before this instant count as overdue
+     * @param dueStart The inclusive start of the "due" range
+     * @param dueEnd The exclusive end of the "due" range
+     * @return The aggregate counts
+     */
+    DashboardSummary getSummary(Date overdueCutoff, Date dueStart, Date dueEnd);
+
+    /**
+     * Get an opaque tag that changes with every committed insert, update and delete
+     * made through a TaskDAO, on any instance. It is read by primary key from the same
+     * database as other reads on this thread. Writes made directly in the database do
+     * not change it.
+     * @return The current change tag
+     */
+    String getChangeTag();
+
+    /**
+     * Get one page of tasks ordered by (due date, id) using keyset pagination
+     * @param status The status to filter by, or null for all tasks
+     * @param after The position of the last task on the previous page, or null for the first page
+     * @param limit The maximum number of tasks to return
+     * @return Up to limit tasks following the cursor
+     */
+    List<Task> getPage(TaskStatus status, PageCursor after, int limit);
+
+    /**
+     * Get one page of tasks, reading only the given columns.
+     * The id and due date are always read because the cursor is built from them.
+     * @param status The status to filter by, or null for all tasks
+     * @param after The position of the last task on the previous page, or null for the first page
+     * @param limit The maximum number of tasks to return
+     * @param fields The fields to read; the others are left null
+     * @return Up to limit partially populated tasks following the cursor
+     */
+    List<Task> getPage(TaskStatus status, PageCursor after, int limit, Set<TaskField> fields);
+
+    /**
+     * Stream tasks to a consumer as rows are read, without collecting them into a list
+     * @param status The status to filter by, or null for all tasks
+     * @param action Called once per task in (due date, id) order
+     */
+    void forEach(TaskStatus status, Consumer<Task> action);
+
+    /**
+     * Stream tasks to a consumer, reading only the given columns
+     * @param status The status to filter by, or null for all tasks
+     * @param fields The fields to read; the others are left null
+     * @param action Called once per task in (due date, id) order
+     */
+    void forEach(TaskStatus status, Set<TaskField> fields, Consumer<Task> action);
+
+    /**
+     * Stream tasks to a consumer, optionally followed by archived tasks
+     * @param status The status to filter by, or null for all tasks
+     * @param fields The fields to load; the others are left null
+     * @param includeArchived Whether to stream tasks_archive after the live tasks
+     * @param action Called once per task; live and archived tasks are each in due date order
+     */
+    void forEach(TaskStatus status, Set<TaskField> fields, boolean includeArchived, Consumer<Task> action);
+
+    /**
+     * Get tasks for list views, with descriptions cut short in the database
+     * so long texts are never transferred
+     * @param status The status to filter by, or null for all tasks
+     * @param descriptionLength Descriptions longer than this are cut to this length followed by "..."
+     * @return List of tasks with abbreviated descriptions
+     */
+    List<Task> getSummaries(TaskStatus status, int descriptionLength);
+
+    /**
+     * Get several tasks by ID in as few queries as possible, from the primary
+     * so the rows can be modified and written back
+     * @param ids The task IDs
+     * @return The tasks that exist, in no particular order
+     */
+    List<Task> getByIds(Collection<Long> ids);
+
+    /**
+     * Insert several tasks in one batched transaction
+     * @param tasks The tasks to create
+     * @return The same tasks with their generated IDs set
+     */
+    List<Task> createAll(List<Task> tasks);
+
+    /**
+     * Update several tasks in one batched transaction.
+     * A task that carries a version is only updated if the row still has that version;
+     * on success its version is advanced.
+     * @param tasks The tasks to update
+     * @return The number of rows affected per task, as reported by the driver; 0 for a
+     *         versioned task means it is missing or has been modified
+     */
+    int[] updateAll(List<Task> tasks);
+
+    /**
+     * Delete several tasks in one batched transaction
+     * @param ids The task IDs to delete
+     * @return The number of rows affected per ID, as reported by the driver
+     */
+    int[] deleteAll(List<Long> ids);
+
+    /**
+     * Move one chunk of finished tasks to tasks_archive in a single transaction
+     * @param finishedBefore Only COMPLETED and CANCELLED tasks last updated before this are moved
+     * @param limit The most tasks to move
+     * @return The IDs of the moved tasks
+     */
+    List<Long> archiveFinished(Date finishedBefore, int limit);
+}
@@ -0,0 +1,43 @@
+package com.novatech.taskflow.dao;
+
+import com.novatech.taskflow.config.AppConfig;
+
+/**
+ * Provides the TaskDAO shared by all services.
+ * A single instance is used so that caching decorators see every write.
+ */
+public class TaskDAOFactory {
+
+    private static class Holder {
+        private static final TaskDAO INSTANCE = create();
+    }
+
+    private TaskDAOFactory() {
+    }
+
+    /**
+     * Get the shared TaskDAO
+     * @return The configured TaskDAO, timed when metrics.enabled is true and
+     *         wrapped in a cache when cache.enabled is true
+     */
+    public static TaskDAO getTaskDAO() {
+        return Holder.INSTANCE;
+    }
+
+    private static TaskDAO create() {
+        TaskDAO taskDAO = new TaskDAOImpl();
+
+        // Time below the cache so cache hits are not counted as queries
+        if (AppConfig.getBoolean("metrics.enabled", true)) {
+            taskDAO = TimedTaskDAO.wrap(taskDAO);
+        }
+
+        if (AppConfig.getBoolean("cache.enabled", true)) {
+            taskDAO = new CachingTaskDAO(taskDAO,
+                    AppConfig.getInt("cache.maxSize", 10_000),
+                    AppConfig.getLong("cache.ttlSeconds", 60));
+        }
+
+        return taskDAO;
+    }
+}
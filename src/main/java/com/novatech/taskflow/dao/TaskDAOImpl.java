@@ -1,13 +1,26 @@
 package com.novatech.taskflow.dao;
 
 import com.novatech.taskflow.config.DatabaseConfig;
+import com.novatech.taskflow.model.DashboardSummary;
+import com.novatech.taskflow.model.PageCursor;
 import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
 import com.novatech.taskflow.model.TaskStatus;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of TaskDAO interface using JDBC
@@ -22,7 +35,15 @@ public class TaskDAOImpl implements TaskDAO {
     private static final String SELECT_ALL_TASKS =
             "SELECT * FROM tasks";
     private static final String UPDATE_TASK =
-            "UPDATE tasks SET title = ?, description = ?, due_date = ?, status = ?, updated_at = ? WHERE id = ?";
+            "UPDATE tasks SET title = ?, description = ?, due_date = ?, status = ?, updated_at = ?, version = version + 1 WHERE id = ?";
+    private static final String UPDATE_TASK_IF_VERSION =
+            UPDATE_TASK + " AND version = ?";
+    private static final String UPDATE_STATUS =
+            "UPDATE tasks SET status = ?, updated_at = ?, version = version + 1 WHERE id = ?";
+    private static final String SELECT_VERSION =
+            "SELECT version FROM tasks WHERE id = ?";
+    private static final Set<TaskField> PATCHABLE_FIELDS =
+            EnumSet.of(TaskField.TITLE, TaskField.DESCRIPTION, TaskField.DUE_DATE, TaskField.STATUS);
     private static final String DELETE_TASK =
             "DELETE FROM tasks WHERE id = ?";
     private static final String SELECT_TASKS_BY_STATUS =
@@ -32,36 +53,101 @@ public class TaskDAOImpl implements TaskDAO {
     private static final String SELECT_ALL_TASKS_SORTED_BY_DUE_DATE =
             "SELECT * FROM tasks ORDER BY due_date ASC";
 
+    // Statuses other than COMPLETED, listed explicitly so the (status, due_date) index can be used
+    private static final String OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(status -> status != TaskStatus.COMPLETED)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+    private static final String SELECT_OVERDUE_TASKS =
+            "SELECT * FROM tasks WHERE status IN (" + OPEN_STATUSES + ") AND due_date < ? ORDER BY due_date ASC LIMIT ?";
+    private static final String SELECT_TASKS_DUE_BETWEEN =
+            "SELECT * FROM tasks WHERE status IN (" + OPEN_STATUSES + ") AND due_date >= ? AND due_date < ? ORDER BY due_date ASC LIMIT ?";
+    private static final String SELECT_SUMMARY =
+            "SELECT status, COUNT(*) AS total, " +
+            "SUM(CASE WHEN due_date < ? THEN 1 ELSE 0 END) AS overdue, " +
+            "SUM(CASE WHEN due_date >= ? AND due_date < ? THEN 1 ELSE 0 END) AS due " +
+            "FROM tasks GROUP BY status";
+    // One row, bumped by every write in the write's own transaction
+    private static final String SELECT_CHANGE_VERSION =
+            "SELECT version FROM task_changes WHERE id = 1";
+    private static final String BUMP_CHANGE_VERSION =
+            "UPDATE task_changes SET version = version + 1 WHERE id = 1";
+
+    // Keyset pagination over (due_date, id); the id tiebreak keeps pages stable for equal due dates
+    private static final String KEYSET_CONDITION =
+            "(due_date > ? OR (due_date = ? AND id > ?))";
+    private static final String SELECT_FIRST_PAGE =
+            "SELECT * FROM tasks ORDER BY due_date ASC, id ASC LIMIT ?";
+    private static final String SELECT_NEXT_PAGE =
+            "SELECT * FROM tasks WHERE " + KEYSET_CONDITION + " ORDER BY due_date ASC, id ASC LIMIT ?";
+    private static final String SELECT_FIRST_PAGE_BY_STATUS =
+            "SELECT * FROM tasks WHERE status = ? ORDER BY due_date ASC, id ASC LIMIT ?";
+    private static final String SELECT_NEXT_PAGE_BY_STATUS =
+            "SELECT * FROM tasks WHERE status = ? AND " + KEYSET_CONDITION + " ORDER BY due_date ASC, id ASC LIMIT ?";
+    private static final String SELECT_ALL_TASKS_ORDERED =
+            "SELECT * FROM tasks ORDER BY due_date ASC, id ASC";
+    private static final String SELECT_TASKS_BY_STATUS_ORDERED =
+            "SELECT * FROM tasks WHERE status = ? ORDER BY due_date ASC, id ASC";
+
+    // List views: the description is cut down in the database so the full text is never sent
+    private static final String SELECT_SUMMARIES =
+            "SELECT id, title, " +
+            "CASE WHEN CHAR_LENGTH(description) > ? THEN CONCAT(LEFT(description, ?), '...') ELSE description END AS description, " +
+            "due_date, status, created_at, updated_at, version FROM tasks";
+    private static final String SELECT_SUMMARIES_BY_STATUS =
+            SELECT_SUMMARIES + " WHERE status = ?";
+
+    // Archive: finished tasks moved out of the live table, keeping their id
+    private static final String ARCHIVE_COLUMNS =
+            "id, title, description, due_date, status, created_at, updated_at, version";
+    private static final String SELECT_ARCHIVED_TASK_BY_ID =
+            "SELECT * FROM tasks_archive WHERE id = ?";
+    private static final String SELECT_ALL_ARCHIVED_TASKS_ORDERED =
+            "SELECT * FROM tasks_archive ORDER BY due_date ASC, id ASC";
+    private static final String SELECT_ARCHIVED_TASKS_BY_STATUS_ORDERED =
+            "SELECT * FROM tasks_archive WHERE status = ? ORDER BY due_date ASC, id ASC";
+    private static final String SELECT_ARCHIVABLE_IDS =
+            "SELECT id FROM tasks WHERE status IN ('" + TaskStatus.COMPLETED.name() + "', '" + TaskStatus.CANCELLED.name() + "') " +
+            "AND updated_at < ? LIMIT ? FOR UPDATE";
+
+    // Upper bound on bind parameters per IN (...) lookup. Lists are padded to the next power
+    // of two (or to this bound), so each lookup has a handful of statement texts that stay in
+    // the per-connection statement cache instead of one text per list length
+    private static final int MAX_IN_LIST = 500;
+
     /**
      * Create a new task in the database
      */
     @Override
     public Task create(Task task) {
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(INSERT_TASK, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
 
-            // Set parameters
-            ps.setString(1, task.getTitle());
-            ps.setString(2, task.getDescription());
-            ps.setTimestamp(3, new Timestamp(task.getDueDate().getTime()));
-            ps.setString(4, task.getStatus().name());
-            ps.setTimestamp(5, new Timestamp(task.getCreatedAt().getTime()));
-            ps.setTimestamp(6, new Timestamp(task.getUpdatedAt().getTime()));
+            try (PreparedStatement ps = conn.prepareStatement(INSERT_TASK, Statement.RETURN_GENERATED_KEYS)) {
+                setInsertParameters(ps, task);
 
-            int affectedRows = ps.executeUpdate();
+                int affectedRows = ps.executeUpdate();
 
-            if (affectedRows == 0) {
-                throw new SQLException("Creating task failed, no rows affected.");
-            }
+                if (affectedRows == 0) {
+                    throw new SQLException("Creating task failed, no rows affected.");
+                }
 
-            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    task.setId(generatedKeys.getLong(1));
-                } else {
-                    throw new SQLException("Creating task failed, no ID obtained.");
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        task.setId(generatedKeys.getLong(1));
+                    } else {
+                        throw new SQLException("Creating task failed, no ID obtained.");
+                    }
                 }
+
+                recordChange(conn);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
             }
 
+            task.setVersion(0L);
             return task;
         } catch (SQLException e) {
             throw new RuntimeException("Error creating task: " + e.getMessage(), e);
@@ -73,6 +159,7 @@ public class TaskDAOImpl implements TaskDAO {
      */
     @Override
     public Task getById(Long id) {
+        // Always read from the primary: callers read-modify-write and the cache must not store lagging rows
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_TASK_BY_ID)) {
 
@@ -90,6 +177,41 @@ public class TaskDAOImpl implements TaskDAO {
         }
     }
 
+    /**
+     * Get a task by its ID from the primary; this DAO has no cache to bypass
+     */
+    @Override
+    public Task getLatestById(Long id) {
+        return getById(id);
+    }
+
+    /**
+     * Get a task by its ID, falling back to the archive
+     */
+    @Override
+    public Task getById(Long id, boolean includeArchived) {
+        Task task = getById(id);
+        if (task != null || !includeArchived) {
+            return task;
+        }
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_ARCHIVED_TASK_BY_ID)) {
+
+            ps.setLong(1, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToTask(rs);
+                }
+            }
+
+            return null;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting archived task by ID: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Get all tasks
      */
@@ -97,7 +219,7 @@ public class TaskDAOImpl implements TaskDAO {
     public List<Task> getAll() {
         List<Task> tasks = new ArrayList<>();
 
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_ALL_TASKS);
              ResultSet rs = ps.executeQuery()) {
 
@@ -113,27 +235,40 @@ public class TaskDAOImpl implements TaskDAO {
     }
 
     /**
-     * Update an existing task
+     * Update an existing task.
+     * When the task carries a version the UPDATE only applies if the row still has that version.
      */
     @Override
     public Task update(Task task) {
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(UPDATE_TASK)) {
+        Long expectedVersion = task.getVersion();
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
 
-            // Set parameters
-            ps.setString(1, task.getTitle());
-            ps.setString(2, task.getDescription());
-            ps.setTimestamp(3, new Timestamp(task.getDueDate().getTime()));
-            ps.setString(4, task.getStatus().name());
-            ps.setTimestamp(5, new Timestamp(new Date().getTime())); // Update the updated_at timestamp
-            ps.setLong(6, task.getId());
+            try (PreparedStatement ps = conn.prepareStatement(expectedVersion == null ? UPDATE_TASK : UPDATE_TASK_IF_VERSION)) {
+                setUpdateParameters(ps, task);
+                if (expectedVersion != null) {
+                    ps.setLong(7, expectedVersion);
+                }
+
+                int affectedRows = ps.executeUpdate();
 
-            int affectedRows = ps.executeUpdate();
+                if (affectedRows == 0) {
+                    if (expectedVersion != null && exists(conn, task.getId())) {
+                        throw new VersionConflictException(task.getId(), expectedVersion);
+                    }
+                    throw new SQLException("Updating task failed, no rows affected.");
+                }
 
-            if (affectedRows == 0) {
-                throw new SQLException("Updating task failed, no rows affected.");
+                recordChange(conn);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
             }
 
+            // The new version is only known when the old one was
+            task.setVersion(expectedVersion == null ? null : expectedVersion + 1);
             return task;
         } catch (SQLException e) {
             throw new RuntimeException("Error updating task: " + e.getMessage(), e);
@@ -141,18 +276,283 @@ public class TaskDAOImpl implements TaskDAO {
     }
 
     /**
-     * Delete a task by its ID
+     * Change a task's status in a single UPDATE, without reading it first
      */
     @Override
-    public boolean delete(Long id) {
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement ps = conn.prepareStatement(DELETE_TASK)) {
+    public boolean updateStatus(Long id, TaskStatus status) {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(UPDATE_STATUS)) {
+                ps.setString(1, status.name());
+                ps.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                ps.setLong(3, id);
+
+                boolean updated = ps.executeUpdate() > 0;
+                if (updated) {
+                    recordChange(conn);
+                }
+                conn.commit();
+                return updated;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating task status: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update only the changed columns of a task.
+     * The statement always bumps updated_at and version; the SET list follows the
+     * enum order so each combination of fields maps to one statement text, and the
+     * at most 32 texts stay in the per-connection statement cache.
+     */
+    @Override
+    public boolean patch(Long id, Map<TaskField, Object> changes, Long expectedVersion) {
+        Map<TaskField, Object> ordered = new EnumMap<>(TaskField.class);
+        ordered.putAll(changes);
+
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET ");
+        for (TaskField field : ordered.keySet()) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be updated: " + field.getJsonName());
+            }
+            sql.append(field.getColumn()).append(" = ?, ");
+        }
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ?");
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (Map.Entry<TaskField, Object> change : ordered.entrySet()) {
+                    Object value = change.getValue();
+                    switch (change.getKey()) {
+                        case DUE_DATE:
+                            ps.setTimestamp(index++, new Timestamp(((Date) value).getTime()));
+                            break;
+                        case STATUS:
+                            ps.setString(index++, ((TaskStatus) value).name());
+                            break;
+                        default:
+                            ps.setString(index++, (String) value);
+                            break;
+                    }
+                }
+                ps.setTimestamp(index++, new Timestamp(System.currentTimeMillis()));
+                ps.setLong(index++, id);
+                if (expectedVersion != null) {
+                    ps.setLong(index, expectedVersion);
+                }
+
+                int affectedRows = ps.executeUpdate();
+
+                if (affectedRows == 0 && expectedVersion != null && exists(conn, id)) {
+                    throw new VersionConflictException(id, expectedVersion);
+                }
+                if (affectedRows > 0) {
+                    recordChange(conn);
+                }
+                conn.commit();
+                return affectedRows > 0;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error patching task: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Change the status of every task matching a filter.
+     * The matching rows are locked and their IDs read first, so the single set-based
+     * UPDATE that follows changes exactly the tasks that are reported.
+     */
+    @Override
+    public List<Long> updateStatusWhere(TaskFilter filter, TaskStatus status) {
+        StringBuilder where = new StringBuilder(" WHERE status <> ?");
+        if (filter.getStatus() != null) {
+            where.append(" AND status = ?");
+        }
+        if (filter.getDueBefore() != null) {
+            where.append(" AND due_date < ?");
+        }
+        if (filter.getDueAfter() != null) {
+            where.append(" AND due_date >= ?");
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                List<Long> ids = new ArrayList<>();
+                try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM tasks" + where + " FOR UPDATE")) {
+                    setFilterParameters(ps, 1, filter, status);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getLong(1));
+                        }
+                    }
+                }
+
+                if (!ids.isEmpty()) {
+                    try (PreparedStatement ps = conn.prepareStatement(
+                            "UPDATE tasks SET status = ?, updated_at = ?, version = version + 1" + where)) {
+                        ps.setString(1, status.name());
+                        ps.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                        setFilterParameters(ps, 3, filter, status);
+                        ps.executeUpdate();
+                    }
+                    recordChange(conn);
+                }
+
+                conn.commit();
+                return ids;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating task statuses: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Move one chunk of finished tasks to the archive.
+     * The chunk is locked and its IDs read first; the copy and the delete then name
+     * exactly those rows, so a task is never in both tables or in neither.
+     */
+    @Override
+    public List<Long> archiveFinished(Date finishedBefore, int limit) {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                List<Long> ids = new ArrayList<>();
+                try (PreparedStatement ps = conn.prepareStatement(SELECT_ARCHIVABLE_IDS)) {
+                    ps.setTimestamp(1, new Timestamp(finishedBefore.getTime()));
+                    ps.setInt(2, Math.min(limit, MAX_IN_LIST));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            ids.add(rs.getLong(1));
+                        }
+                    }
+                }
+
+                if (!ids.isEmpty()) {
+                    int size = inListSize(ids.size());
+                    String placeholders = placeholders(size);
+                    try (PreparedStatement ps = conn.prepareStatement("INSERT INTO tasks_archive (" + ARCHIVE_COLUMNS + ") "
+                            + "SELECT " + ARCHIVE_COLUMNS + " FROM tasks WHERE id IN (" + placeholders + ")")) {
+                        setIds(ps, ids, size);
+                        ps.executeUpdate();
+                    }
+                    try (PreparedStatement ps = conn.prepareStatement("DELETE FROM tasks WHERE id IN (" + placeholders + ")")) {
+                        setIds(ps, ids, size);
+                        ps.executeUpdate();
+                    }
+                    recordChange(conn);
+                }
+
+                conn.commit();
+                return ids;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error archiving tasks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the padded length of an IN list: the next power of two, at most MAX_IN_LIST
+     */
+    private static int inListSize(int count) {
+        int size = count <= 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+        return Math.min(size, MAX_IN_LIST);
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    /**
+     * Bind the IDs of an IN list of the given padded size, repeating the last ID in the padding
+     */
+    private static void setIds(PreparedStatement ps, List<Long> ids, int size) throws SQLException {
+        for (int i = 0; i < size; i++) {
+            ps.setLong(i + 1, ids.get(Math.min(i, ids.size() - 1)));
+        }
+    }
+
+    /**
+     * Bind the WHERE parameters built by updateStatusWhere, starting at the given index
+     */
+    private void setFilterParameters(PreparedStatement ps, int index, TaskFilter filter, TaskStatus status)
+            throws SQLException {
+        ps.setString(index++, status.name());
+        if (filter.getStatus() != null) {
+            ps.setString(index++, filter.getStatus().name());
+        }
+        if (filter.getDueBefore() != null) {
+            ps.setTimestamp(index++, new Timestamp(filter.getDueBefore().getTime()));
+        }
+        if (filter.getDueAfter() != null) {
+            ps.setTimestamp(index, new Timestamp(filter.getDueAfter().getTime()));
+        }
+    }
+
+    /**
+     * Bump the table-level change version inside the caller's transaction. Called last,
+     * so the single row is locked only until the commit that follows.
+     */
+    private static void recordChange(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(BUMP_CHANGE_VERSION)) {
+            ps.executeUpdate();
+        }
+    }
 
+    /**
+     * Check whether a task row exists, to tell a version conflict from a missing task
+     */
+    private boolean exists(Connection conn, Long id) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_VERSION)) {
             ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Delete a task by its ID
+     */
+    @Override
+    public boolean delete(Long id) {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
 
-            int affectedRows = ps.executeUpdate();
+            try (PreparedStatement ps = conn.prepareStatement(DELETE_TASK)) {
+                ps.setLong(1, id);
 
-            return affectedRows > 0;
+                boolean deleted = ps.executeUpdate() > 0;
+                if (deleted) {
+                    recordChange(conn);
+                }
+                conn.commit();
+                return deleted;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
         } catch (SQLException e) {
             throw new RuntimeException("Error deleting task: " + e.getMessage(), e);
         }
@@ -165,7 +565,7 @@ public class TaskDAOImpl implements TaskDAO {
     public List<Task> getByStatus(TaskStatus status) {
         List<Task> tasks = new ArrayList<>();
 
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_TASKS_BY_STATUS)) {
 
             ps.setString(1, status.name());
@@ -190,7 +590,7 @@ public class TaskDAOImpl implements TaskDAO {
     public List<Task> getByDueDateBefore(Date date) {
         List<Task> tasks = new ArrayList<>();
 
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_TASKS_BY_DUE_DATE_BEFORE)) {
 
             ps.setTimestamp(1, new Timestamp(date.getTime()));
@@ -215,7 +615,7 @@ public class TaskDAOImpl implements TaskDAO {
     public List<Task> getAllSortedByDueDate() {
         List<Task> tasks = new ArrayList<>();
 
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(SELECT_ALL_TASKS_SORTED_BY_DUE_DATE);
              ResultSet rs = ps.executeQuery()) {
 
@@ -230,6 +630,515 @@ public class TaskDAOImpl implements TaskDAO {
         return tasks;
     }
 
+    /**
+     * Get tasks that are not completed and due before a cutoff
+     */
+    @Override
+    public List<Task> getOverdue(Date cutoff) {
+        return getOverdue(cutoff, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get at most limit tasks that are not completed and due before a cutoff
+     */
+    @Override
+    public List<Task> getOverdue(Date cutoff, int limit) {
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_OVERDUE_TASKS)) {
+
+            ps.setTimestamp(1, new Timestamp(cutoff.getTime()));
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting overdue tasks: " + e.getMessage(), e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Get tasks that are not completed and due within a range
+     */
+    @Override
+    public List<Task> getDueBetween(Date start, Date end) {
+        return getDueBetween(start, end, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get at most limit tasks that are not completed and due within a range
+     */
+    @Override
+    public List<Task> getDueBetween(Date start, Date end, int limit) {
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_TASKS_DUE_BETWEEN)) {
+
+            ps.setTimestamp(1, new Timestamp(start.getTime()));
+            ps.setTimestamp(2, new Timestamp(end.getTime()));
+            ps.setInt(3, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting tasks due in range: " + e.getMessage(), e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Count tasks per status plus overdue and due-in-range open tasks in a single query
+     */
+    @Override
+    public DashboardSummary getSummary(Date overdueCutoff, Date dueStart, Date dueEnd) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        long overdue = 0;
+        long due = 0;
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_SUMMARY)) {
+
+            ps.setTimestamp(1, new Timestamp(overdueCutoff.getTime()));
+            ps.setTimestamp(2, new Timestamp(dueStart.getTime()));
+            ps.setTimestamp(3, new Timestamp(dueEnd.getTime()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+                    statusCounts.put(status, rs.getLong("total"));
+
+                    // Completed tasks are never overdue or due
+                    if (status != TaskStatus.COMPLETED) {
+                        overdue += rs.getLong("overdue");
+                        due += rs.getLong("due");
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting task summary: " + e.getMessage(), e);
+        }
+
+        return new DashboardSummary(statusCounts, overdue, due);
+    }
+
+    /**
+     * Read the table-level change version by primary key
+     */
+    @Override
+    public String getChangeTag() {
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_CHANGE_VERSION);
+             ResultSet rs = ps.executeQuery()) {
+
+            if (!rs.next()) {
+                throw new SQLException("task_changes has no row; has migration V6 run?");
+            }
+            return Long.toString(rs.getLong(1), 36);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting task change tag: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get one page of tasks ordered by (due date, id)
+     */
+    @Override
+    public List<Task> getPage(TaskStatus status, PageCursor after, int limit) {
+        return getPage(status, after, limit, TaskField.ALL);
+    }
+
+    /**
+     * Get one page of tasks ordered by (due date, id), reading only the given columns
+     */
+    @Override
+    public List<Task> getPage(TaskStatus status, PageCursor after, int limit, Set<TaskField> fields) {
+        // The next cursor is built from the last row's due date and id
+        Set<TaskField> columns = EnumSet.of(TaskField.ID, TaskField.DUE_DATE);
+        columns.addAll(fields);
+
+        String sql;
+        if (status == null) {
+            sql = after == null ? SELECT_FIRST_PAGE : SELECT_NEXT_PAGE;
+        } else {
+            sql = after == null ? SELECT_FIRST_PAGE_BY_STATUS : SELECT_NEXT_PAGE_BY_STATUS;
+        }
+
+        List<Task> tasks = new ArrayList<>(limit);
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(project(sql, columns))) {
+
+            int index = 1;
+            if (status != null) {
+                ps.setString(index++, status.name());
+            }
+            if (after != null) {
+                Timestamp dueDate = new Timestamp(after.getDueDate().getTime());
+                ps.setTimestamp(index++, dueDate);
+                ps.setTimestamp(index++, dueDate);
+                ps.setLong(index++, after.getId());
+            }
+            ps.setInt(index, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs, columns));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting page of tasks: " + e.getMessage(), e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Stream tasks to a consumer using a forward-only, read-only cursor
+     */
+    @Override
+    public void forEach(TaskStatus status, Consumer<Task> action) {
+        forEach(status, TaskField.ALL, action);
+    }
+
+    /**
+     * Stream tasks to a consumer, reading only the given columns
+     */
+    @Override
+    public void forEach(TaskStatus status, Set<TaskField> fields, Consumer<Task> action) {
+        forEach(status, fields, false, action);
+    }
+
+    /**
+     * Stream live tasks and then, if asked, archived tasks to a consumer
+     */
+    @Override
+    public void forEach(TaskStatus status, Set<TaskField> fields, boolean includeArchived, Consumer<Task> action) {
+        Set<TaskField> columns = EnumSet.of(TaskField.ID);
+        columns.addAll(fields);
+
+        stream(project(status == null ? SELECT_ALL_TASKS_ORDERED : SELECT_TASKS_BY_STATUS_ORDERED, columns),
+                status, columns, action);
+        if (includeArchived) {
+            stream(project(status == null ? SELECT_ALL_ARCHIVED_TASKS_ORDERED : SELECT_ARCHIVED_TASKS_BY_STATUS_ORDERED, columns),
+                    status, columns, action);
+        }
+    }
+
+    /**
+     * Run a query through a forward-only cursor, handing each row to the consumer as it arrives
+     */
+    private void stream(String sql, TaskStatus status, Set<TaskField> columns, Consumer<Task> action) {
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            ps.setFetchSize(DatabaseConfig.getStreamingFetchSize());
+            if (status != null) {
+                ps.setString(1, status.name());
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapResultSetToTask(rs, columns));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error streaming tasks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get tasks for list views with descriptions abbreviated by the database
+     */
+    @Override
+    public List<Task> getSummaries(TaskStatus status, int descriptionLength) {
+        List<Task> tasks = new ArrayList<>();
+
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(status == null ? SELECT_SUMMARIES : SELECT_SUMMARIES_BY_STATUS)) {
+
+            ps.setInt(1, descriptionLength);
+            ps.setInt(2, descriptionLength);
+            if (status != null) {
+                ps.setString(3, status.name());
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapResultSetToTask(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting task summaries: " + e.getMessage(), e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Get several tasks by ID, using one IN (...) query per chunk of IDs
+     */
+    @Override
+    public List<Task> getByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> idList = new ArrayList<>(ids);
+        List<Task> tasks = new ArrayList<>(idList.size());
+
+        // Always read from the primary: batch updates merge into these rows and write every column back
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            for (int from = 0; from < idList.size(); from += MAX_IN_LIST) {
+                List<Long> chunk = idList.subList(from, Math.min(from + MAX_IN_LIST, idList.size()));
+                int size = inListSize(chunk.size());
+
+                try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM tasks WHERE id IN (" + placeholders(size) + ")")) {
+                    setIds(ps, chunk, size);
+
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            tasks.add(mapResultSetToTask(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error getting tasks by ID: " + e.getMessage(), e);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Insert several tasks with JDBC batching inside a single transaction
+     */
+    @Override
+    public List<Task> createAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(INSERT_TASK, Statement.RETURN_GENERATED_KEYS)) {
+                for (Task task : tasks) {
+                    setInsertParameters(ps, task);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                // Keys come back in batch order
+                int index = 0;
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    while (generatedKeys.next() && index < tasks.size()) {
+                        Task created = tasks.get(index++);
+                        created.setId(generatedKeys.getLong(1));
+                        created.setVersion(0L);
+                    }
+                }
+                if (index != tasks.size()) {
+                    throw new SQLException("Creating tasks failed, expected " + tasks.size() + " IDs but got " + index + ".");
+                }
+
+                recordChange(conn);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+
+            return tasks;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error creating tasks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update several tasks with JDBC batching inside a single transaction.
+     * Tasks that carry a version go through a second batch whose UPDATEs only apply
+     * to that version, so a task changed since it was read reports 0 rows.
+     */
+    @Override
+    public int[] updateAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new int[0];
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement unversioned = conn.prepareStatement(UPDATE_TASK);
+                 PreparedStatement versioned = conn.prepareStatement(UPDATE_TASK_IF_VERSION)) {
+                List<Integer> unversionedIndexes = new ArrayList<>();
+                List<Integer> versionedIndexes = new ArrayList<>();
+                for (int i = 0; i < tasks.size(); i++) {
+                    Task task = tasks.get(i);
+                    if (task.getVersion() == null) {
+                        setUpdateParameters(unversioned, task);
+                        unversioned.addBatch();
+                        unversionedIndexes.add(i);
+                    } else {
+                        setUpdateParameters(versioned, task);
+                        versioned.setLong(7, task.getVersion());
+                        versioned.addBatch();
+                        versionedIndexes.add(i);
+                    }
+                }
+
+                int[] affectedRows = new int[tasks.size()];
+                if (!unversionedIndexes.isEmpty()) {
+                    scatter(unversioned.executeBatch(), unversionedIndexes, affectedRows);
+                }
+                if (!versionedIndexes.isEmpty()) {
+                    scatter(versioned.executeBatch(), versionedIndexes, affectedRows);
+                }
+
+                recordChange(conn);
+                conn.commit();
+
+                for (int i : versionedIndexes) {
+                    if (affectedRows[i] > 0 || affectedRows[i] == Statement.SUCCESS_NO_INFO) {
+                        tasks.get(i).setVersion(tasks.get(i).getVersion() + 1);
+                    }
+                }
+                return affectedRows;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating tasks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy the counts of one batch to the positions of its tasks in the whole list
+     */
+    private static void scatter(int[] batchRows, List<Integer> indexes, int[] affectedRows) {
+        for (int j = 0; j < batchRows.length; j++) {
+            affectedRows[indexes.get(j)] = batchRows[j];
+        }
+    }
+
+    /**
+     * Delete several tasks with JDBC batching inside a single transaction
+     */
+    @Override
+    public int[] deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new int[0];
+        }
+
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(DELETE_TASK)) {
+                for (Long id : ids) {
+                    ps.setLong(1, id);
+                    ps.addBatch();
+                }
+                int[] affectedRows = ps.executeBatch();
+
+                recordChange(conn);
+                conn.commit();
+                return affectedRows;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error deleting tasks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Bind the INSERT_TASK parameters for a task
+     */
+    private void setInsertParameters(PreparedStatement ps, Task task) throws SQLException {
+        ps.setString(1, task.getTitle());
+        ps.setString(2, task.getDescription());
+        ps.setTimestamp(3, new Timestamp(task.getDueDate().getTime()));
+        ps.setString(4, task.getStatus().name());
+        ps.setTimestamp(5, new Timestamp(task.getCreatedAt().getTime()));
+        ps.setTimestamp(6, new Timestamp(task.getUpdatedAt().getTime()));
+    }
+
+    /**
+     * Bind the UPDATE_TASK parameters for a task
+     */
+    private void setUpdateParameters(PreparedStatement ps, Task task) throws SQLException {
+        ps.setString(1, task.getTitle());
+        ps.setString(2, task.getDescription());
+        ps.setTimestamp(3, new Timestamp(task.getDueDate().getTime()));
+        ps.setString(4, task.getStatus().name());
+        ps.setTimestamp(5, new Timestamp(new Date().getTime())); // Update the updated_at timestamp
+        ps.setLong(6, task.getId());
+    }
+
+    /**
+     * Replace the SELECT * of a query with the columns of the given fields
+     */
+    private String project(String sql, Set<TaskField> fields) {
+        if (fields.containsAll(TaskField.ALL)) {
+            return sql;
+        }
+        String columns = fields.stream().map(TaskField::getColumn).collect(Collectors.joining(", "));
+        return "SELECT " + columns + sql.substring("SELECT *".length());
+    }
+
+    /**
+     * Map a projected row to a Task, leaving fields that were not selected null
+     */
+    private Task mapResultSetToTask(ResultSet rs, Set<TaskField> fields) throws SQLException {
+        if (fields.containsAll(TaskField.ALL)) {
+            return mapResultSetToTask(rs);
+        }
+
+        Task task = new Task();
+        task.setId(rs.getLong("id"));
+        if (fields.contains(TaskField.TITLE)) {
+            task.setTitle(rs.getString("title"));
+        }
+        if (fields.contains(TaskField.DESCRIPTION)) {
+            task.setDescription(rs.getString("description"));
+        }
+        if (fields.contains(TaskField.DUE_DATE)) {
+            task.setDueDate(rs.getTimestamp("due_date"));
+        }
+        if (fields.contains(TaskField.STATUS)) {
+            task.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        }
+        if (fields.contains(TaskField.CREATED_AT)) {
+            task.setCreatedAt(rs.getTimestamp("created_at"));
+        }
+        if (fields.contains(TaskField.UPDATED_AT)) {
+            task.setUpdatedAt(rs.getTimestamp("updated_at"));
+        }
+        if (fields.contains(TaskField.VERSION)) {
+            task.setVersion(rs.getLong("version"));
+        }
+        return task;
+    }
+
     /**
      * Maps a database result set to a Task object
      */
@@ -242,6 +1151,7 @@ public class TaskDAOImpl implements TaskDAO {
         task.setStatus(TaskStatus.valueOf(rs.getString("status")));
         task.setCreatedAt(rs.getTimestamp("created_at"));
         task.setUpdatedAt(rs.getTimestamp("updated_at"));
+        task.setVersion(rs.getLong("version"));
         return task;
     }
 }
\ No newline at end of file
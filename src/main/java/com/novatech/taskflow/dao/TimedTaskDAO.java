@@ -0,0 +1,82 @@
+package com.novatech.taskflow.dao;
+
+import com.novatech.taskflow.metrics.MetricsRegistry;
+import com.novatech.taskflow.metrics.MetricsRegistry.QueryMetrics;
+import com.novatech.taskflow.model.Task;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records latency, row counts and failures for every TaskDAO call.
+ * Implemented as a dynamic proxy so new DAO methods are timed without further changes.
+ */
+final class TimedTaskDAO implements InvocationHandler {
+
+    private final TaskDAO delegate;
+    // Resolved once so a call only does a map lookup, never a registry lookup
+    private final Map<Method, QueryMetrics> metrics = new HashMap<>();
+
+    private TimedTaskDAO(TaskDAO delegate) {
+        this.delegate = delegate;
+        for (Method method : TaskDAO.class.getMethods()) {
+            metrics.put(method, MetricsRegistry.getInstance().query(method.getName()));
+        }
+    }
+
+    /**
+     * Wrap a DAO so its calls are timed
+     * @param delegate The DAO to time
+     * @return A timed view of the DAO
+     */
+    static TaskDAO wrap(TaskDAO delegate) {
+        return (TaskDAO) Proxy.newProxyInstance(TaskDAO.class.getClassLoader(),
+                new Class<?>[]{TaskDAO.class}, new TimedTaskDAO(delegate));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        QueryMetrics queryMetrics = metrics.get(method);
+        if (queryMetrics == null) {
+            // equals, hashCode and toString
+            return method.invoke(delegate, args);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = method.invoke(delegate, args);
+            queryMetrics.record(System.nanoTime() - start, rowCount(method, result), false);
+            return result;
+        } catch (InvocationTargetException e) {
+            queryMetrics.record(System.nanoTime() - start, -1, true);
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return The number of rows a DAO result represents, or -1 if it is not a row count
+     */
+    private static long rowCount(Method method, Object result) {
+        if (method.getReturnType() == void.class) {
+            return -1;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof int[]) {
+            return ((int[]) result).length;
+        }
+        if (result instanceof Task) {
+            return 1;
+        }
+        if (result == null && method.getReturnType() == Task.class) {
+            return 0;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.novatech.taskflow.dao;
+
+/**
+ * Thrown when a conditional update finds the task has been changed since the
+ * caller read it
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long taskId;
+    private final Long expectedVersion;
+
+    public VersionConflictException(Long taskId, Long expectedVersion) {
+        super("Task " + taskId + " was modified by another request (expected version " + expectedVersion + ")");
+        this.taskId = taskId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    // Getters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,80 @@
+package com.novatech.taskflow.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram backed by striped counters, so concurrent observations never contend on a lock
+ */
+public final class Histogram {
+
+    /** Latency bucket bounds in nanoseconds, 1ms to 10s */
+    static final long[] LATENCY_BOUNDS_NANOS = {
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L,
+            5_000_000_000L, 10_000_000_000L};
+
+    /** Row count bucket bounds */
+    static final long[] ROW_BOUNDS = {0, 1, 5, 10, 50, 100, 500, 1_000, 5_000, 10_000, 100_000};
+
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Create a histogram
+     * @param bounds Inclusive upper bounds of each bucket, ascending; an overflow bucket is added
+     */
+    public Histogram(long[] bounds) {
+        this.bounds = bounds;
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record one observation
+     * @param value The observed value, in the unit of the bounds
+     */
+    public void observe(long value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sum.add(value);
+    }
+
+    /**
+     * @return The number of observations so far
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Write the _bucket, _sum and _count samples in Prometheus text format
+     * @param out The destination
+     * @param name The metric family name
+     * @param labels Label pairs without braces, e.g. {@code method="GET"}, or empty
+     * @param scale Multiplier converting the recorded unit to the exported unit
+     */
+    void writeTo(Writer out, String name, String labels, double scale) throws IOException {
+        String prefix = labels.isEmpty() ? "{" : "{" + labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            String le = i < bounds.length ? MetricsRegistry.format(bounds[i] * scale) : "+Inf";
+            out.write(name + "_bucket" + prefix + "le=\"" + le + "\"} " + cumulative + "\n");
+        }
+        String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+        out.write(name + "_sum" + suffix + MetricsRegistry.format(sum.sum() * scale) + "\n");
+        out.write(name + "_count" + suffix + cumulative + "\n");
+    }
+}
@@ -0,0 +1,261 @@
+package com.novatech.taskflow.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide request, query and connection metrics, exported in Prometheus text format.
+ * Metric objects are created once per label set and reused, so recording only touches
+ * striped counters.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    // Caps the number of route series so unexpected URLs cannot grow the registry without bound
+    private static final int MAX_ROUTES = 200;
+    private static final String OTHER_ROUTE = "other";
+    private static final double NANOS_TO_SECONDS = 1e-9;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, EndpointMetrics>> endpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger routeCount = new AtomicInteger();
+    private final ConcurrentMap<String, QueryMetrics> queries = new ConcurrentHashMap<>();
+    private final Histogram connectionAcquire = new Histogram(Histogram.LATENCY_BOUNDS_NANOS);
+    private final LongAdder connectionAcquireFailures = new LongAdder();
+
+    /**
+     * Get the registry shared by the whole application
+     * @return The shared registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the metrics for one route and HTTP method
+     * @param route A normalized route such as /api/tasks/{id}
+     * @param method The HTTP method
+     * @return The metrics, created on first use
+     */
+    public EndpointMetrics endpoint(String route, String method) {
+        ConcurrentMap<String, EndpointMetrics> byMethod = endpoints.get(route);
+        if (byMethod == null) {
+            if (routeCount.get() >= MAX_ROUTES) {
+                route = OTHER_ROUTE;
+            } else if (endpoints.putIfAbsent(route, new ConcurrentHashMap<>()) == null) {
+                routeCount.incrementAndGet();
+            }
+            byMethod = endpoints.computeIfAbsent(route, r -> new ConcurrentHashMap<>());
+        }
+        EndpointMetrics metrics = byMethod.get(method);
+        return metrics != null ? metrics : byMethod.computeIfAbsent(method, m -> new EndpointMetrics());
+    }
+
+    /**
+     * Get the metrics for one DAO method
+     * @param method The DAO method name
+     * @return The metrics, created on first use
+     */
+    public QueryMetrics query(String method) {
+        return queries.computeIfAbsent(method, m -> new QueryMetrics());
+    }
+
+    /**
+     * Record the time taken to borrow a database connection
+     * @param nanos The wait in nanoseconds
+     */
+    public void recordConnectionAcquire(long nanos) {
+        connectionAcquire.observe(nanos);
+    }
+
+    /**
+     * Record a failed attempt to borrow a database connection
+     */
+    public void recordConnectionAcquireFailure() {
+        connectionAcquireFailures.increment();
+    }
+
+    /**
+     * Write every recorded metric plus JVM gauges in Prometheus text format
+     * @param out The destination
+     */
+    public void writeTo(Writer out) throws IOException {
+        writeHeader(out, "taskflow_http_requests_total", "counter", "HTTP requests handled");
+        for (Map.Entry<String, ConcurrentMap<String, EndpointMetrics>> route : endpoints.entrySet()) {
+            for (Map.Entry<String, EndpointMetrics> method : route.getValue().entrySet()) {
+                writeSample(out, "taskflow_http_requests_total", endpointLabels(route.getKey(), method.getKey()),
+                        method.getValue().requests.sum());
+            }
+        }
+
+        writeHeader(out, "taskflow_http_errors_total", "counter", "HTTP requests that failed with a 5xx status or an exception");
+        for (Map.Entry<String, ConcurrentMap<String, EndpointMetrics>> route : endpoints.entrySet()) {
+            for (Map.Entry<String, EndpointMetrics> method : route.getValue().entrySet()) {
+                writeSample(out, "taskflow_http_errors_total", endpointLabels(route.getKey(), method.getKey()),
+                        method.getValue().errors.sum());
+            }
+        }
+
+        writeHeader(out, "taskflow_http_request_duration_seconds", "histogram", "HTTP request latency");
+        for (Map.Entry<String, ConcurrentMap<String, EndpointMetrics>> route : endpoints.entrySet()) {
+            for (Map.Entry<String, EndpointMetrics> method : route.getValue().entrySet()) {
+                method.getValue().latency.writeTo(out, "taskflow_http_request_duration_seconds",
+                        endpointLabels(route.getKey(), method.getKey()), NANOS_TO_SECONDS);
+            }
+        }
+
+        writeHeader(out, "taskflow_dao_query_duration_seconds", "histogram", "TaskDAO call latency");
+        for (Map.Entry<String, QueryMetrics> query : queries.entrySet()) {
+            query.getValue().latency.writeTo(out, "taskflow_dao_query_duration_seconds",
+                    "method=\"" + query.getKey() + "\"", NANOS_TO_SECONDS);
+        }
+
+        writeHeader(out, "taskflow_dao_query_rows", "histogram", "Rows returned or affected per TaskDAO call");
+        for (Map.Entry<String, QueryMetrics> query : queries.entrySet()) {
+            query.getValue().rows.writeTo(out, "taskflow_dao_query_rows", "method=\"" + query.getKey() + "\"", 1);
+        }
+
+        writeHeader(out, "taskflow_dao_query_errors_total", "counter", "TaskDAO calls that threw");
+        for (Map.Entry<String, QueryMetrics> query : queries.entrySet()) {
+            writeSample(out, "taskflow_dao_query_errors_total", "method=\"" + query.getKey() + "\"",
+                    query.getValue().errors.sum());
+        }
+
+        writeHeader(out, "taskflow_db_connection_acquire_seconds", "histogram", "Time spent waiting for a pooled connection");
+        connectionAcquire.writeTo(out, "taskflow_db_connection_acquire_seconds", "", NANOS_TO_SECONDS);
+        writeGauge(out, "taskflow_db_connection_acquire_failures_total", "counter",
+                "Connection requests that timed out or failed", connectionAcquireFailures.sum());
+
+        writeJvmMetrics(out);
+    }
+
+    private void writeJvmMetrics(Writer out) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+
+        writeHeader(out, "jvm_memory_used_bytes", "gauge", "Memory in use");
+        writeSample(out, "jvm_memory_used_bytes", "area=\"heap\"", heap.getUsed());
+        writeSample(out, "jvm_memory_used_bytes", "area=\"nonheap\"", nonHeap.getUsed());
+        writeHeader(out, "jvm_memory_committed_bytes", "gauge", "Memory committed by the JVM");
+        writeSample(out, "jvm_memory_committed_bytes", "area=\"heap\"", heap.getCommitted());
+        writeSample(out, "jvm_memory_committed_bytes", "area=\"nonheap\"", nonHeap.getCommitted());
+        writeHeader(out, "jvm_memory_max_bytes", "gauge", "Maximum memory the JVM may use, or -1 if undefined");
+        writeSample(out, "jvm_memory_max_bytes", "area=\"heap\"", heap.getMax());
+        writeSample(out, "jvm_memory_max_bytes", "area=\"nonheap\"", nonHeap.getMax());
+
+        // One summary family: _count is the number of collections, _sum the seconds they took
+        writeHeader(out, "jvm_gc_collection_seconds", "summary", "Time spent in garbage collection per collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String labels = "gc=\"" + escape(gc.getName()) + "\"";
+            writeSample(out, "jvm_gc_collection_seconds_count", labels, gc.getCollectionCount());
+            out.write("jvm_gc_collection_seconds_sum{" + labels + "} " + format(gc.getCollectionTime() / 1000.0) + "\n");
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        writeGauge(out, "jvm_threads_live", "gauge", "Live platform threads", threads.getThreadCount());
+        writeGauge(out, "jvm_threads_daemon", "gauge", "Live daemon platform threads", threads.getDaemonThreadCount());
+        writeGauge(out, "jvm_classes_loaded", "gauge", "Classes currently loaded",
+                ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+        out.write("# HELP process_uptime_seconds Time since the JVM started\n# TYPE process_uptime_seconds gauge\n");
+        out.write("process_uptime_seconds " + format(ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0) + "\n");
+    }
+
+    /**
+     * Write a single unlabelled metric with its HELP and TYPE lines
+     * @param out The destination
+     * @param name The metric name
+     * @param type gauge or counter
+     * @param help A one-line description
+     * @param value The current value
+     */
+    public static void writeGauge(Writer out, String name, String type, String help, long value) throws IOException {
+        writeHeader(out, name, type, help);
+        out.write(name + " " + value + "\n");
+    }
+
+    /**
+     * Write a single fractional gauge, e.g. a ratio, with its HELP and TYPE lines
+     */
+    public static void writeGauge(Writer out, String name, String type, String help, double value) throws IOException {
+        writeHeader(out, name, type, help);
+        out.write(name + " " + value + "\n");
+    }
+
+    private static void writeHeader(Writer out, String name, String type, String help) throws IOException {
+        out.write("# HELP " + name + " " + help + "\n# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void writeSample(Writer out, String name, String labels, long value) throws IOException {
+        out.write(name + "{" + labels + "} " + value + "\n");
+    }
+
+    private static String endpointLabels(String route, String method) {
+        return "route=\"" + escape(route) + "\",method=\"" + escape(method) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    /**
+     * Request count, error count and latency for one route and method
+     */
+    public static final class EndpointMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Histogram latency = new Histogram(Histogram.LATENCY_BOUNDS_NANOS);
+
+        /**
+         * Record one handled request
+         * @param nanos The time taken
+         * @param error true if the request failed
+         */
+        public void record(long nanos, boolean error) {
+            requests.increment();
+            if (error) {
+                errors.increment();
+            }
+            latency.observe(nanos);
+        }
+    }
+
+    /**
+     * Latency, row counts and error count for one DAO method
+     */
+    public static final class QueryMetrics {
+        private final Histogram latency = new Histogram(Histogram.LATENCY_BOUNDS_NANOS);
+        private final Histogram rows = new Histogram(Histogram.ROW_BOUNDS);
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Record one call
+         * @param nanos The time taken
+         * @param rowCount Rows returned or affected, or -1 if not applicable
+         * @param error true if the call threw
+         */
+        public void record(long nanos, long rowCount, boolean error) {
+            latency.observe(nanos);
+            if (rowCount >= 0) {
+                rows.observe(rowCount);
+            }
+            if (error) {
+                errors.increment();
+            }
+        }
+    }
+}
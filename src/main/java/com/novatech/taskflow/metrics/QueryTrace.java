@@ -0,0 +1,74 @@
+package com.novatech.taskflow.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running totals of the SQL statements issued while handling one request.
+ * The trace is bound to the thread doing the work; AsyncDispatcher carries it
+ * over to the virtual thread that runs the handler.
+ */
+public final class QueryTrace {
+
+    private static final ThreadLocal<QueryTrace> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+
+    /**
+     * Get the trace bound to the current thread
+     * @return The trace, or null if the thread is not handling a traced request
+     */
+    public static QueryTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a trace to the current thread
+     * @param trace The trace to bind, or null to unbind
+     * @return The previously bound trace, to be passed back to restore
+     */
+    public static QueryTrace bind(QueryTrace trace) {
+        QueryTrace previous = CURRENT.get();
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+        return previous;
+    }
+
+    /**
+     * Restore the binding that was in place before bind
+     * @param previous The value returned by bind
+     */
+    public static void restore(QueryTrace previous) {
+        bind(previous);
+    }
+
+    /**
+     * Record one finished statement
+     * @param nanos The time spent in the database
+     */
+    void recordStatement(long nanos) {
+        statementCount.incrementAndGet();
+        dbNanos.addAndGet(nanos);
+    }
+
+    // Getters
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryTrace{" +
+                "statementCount=" + statementCount +
+                ", dbMillis=" + dbNanos.get() / 1_000_000.0 +
+                '}';
+    }
+}
@@ -0,0 +1,273 @@
+package com.novatech.taskflow.metrics;
+
+import com.novatech.taskflow.config.AppConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * JDBC wrapper that times every statement, logs the slow ones with their bind
+ * parameters and row counts, and adds each statement to the current QueryTrace.
+ *
+ * Query time is the time spent in execute plus the time spent inside ResultSet.next,
+ * so rows streamed to a slow client do not count as database time.
+ */
+public final class QueryTracer {
+
+    private static final Logger LOG = LogManager.getLogger("com.novatech.taskflow.sql");
+    private static final long SLOW_QUERY_NANOS = AppConfig.getLong("trace.slowQueryMs", 200) * 1_000_000L;
+    private static final int MAX_PARAM_LENGTH = 100;
+
+    private QueryTracer() {
+    }
+
+    /**
+     * Wrap a connection so the statements it creates are traced
+     * @param connection The connection to wrap; closing the wrapper closes it
+     * @return The traced connection
+     */
+    public static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryTracer.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wraps statements as they are created
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection delegate;
+
+        private ConnectionHandler(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryTracer.invoke(delegate, method, args);
+
+            if (result instanceof Statement
+                    && (method.getName().equals("prepareStatement") || method.getName().equals("createStatement"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                Class<?> type = result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(QueryTracer.class.getClassLoader(), new Class<?>[]{type},
+                        new StatementHandler((Statement) result, sql, QueryTrace.current()));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Captures bind parameters and times executions of one statement
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement delegate;
+        private final QueryTrace trace;
+        private String sql;
+        private Object[] params = new Object[8];
+        private int batchSize;
+
+        // Set while a query's result set is open
+        private boolean queryOpen;
+        private long queryNanos;
+        private long queryRows;
+
+        private StatementHandler(Statement delegate, String sql, QueryTrace trace) {
+            this.delegate = delegate;
+            this.sql = sql;
+            this.trace = trace;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                recordParameter((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return QueryTracer.invoke(delegate, method, args);
+            }
+
+            switch (name) {
+                case "clearParameters":
+                    Arrays.fill(params, null);
+                    return QueryTracer.invoke(delegate, method, args);
+                case "addBatch":
+                    batchSize++;
+                    return QueryTracer.invoke(delegate, method, args);
+                case "executeQuery":
+                    return executeQuery(method, args);
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "execute":
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return executeUpdate(method, args);
+                case "close":
+                    finishQuery();
+                    return QueryTracer.invoke(delegate, method, args);
+                default:
+                    return QueryTracer.invoke(delegate, method, args);
+            }
+        }
+
+        private Object executeQuery(Method method, Object[] args) throws Throwable {
+            finishQuery();
+            if (args != null && args.length > 0) {
+                sql = (String) args[0];
+            }
+
+            long start = System.nanoTime();
+            ResultSet resultSet;
+            try {
+                resultSet = (ResultSet) QueryTracer.invoke(delegate, method, args);
+            } catch (Throwable e) {
+                finish(System.nanoTime() - start, -1);
+                throw e;
+            }
+
+            queryOpen = true;
+            queryNanos = System.nanoTime() - start;
+            queryRows = 0;
+            return Proxy.newProxyInstance(QueryTracer.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, this));
+        }
+
+        private Object executeUpdate(Method method, Object[] args) throws Throwable {
+            finishQuery();
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = QueryTracer.invoke(delegate, method, args);
+            } catch (Throwable e) {
+                finish(System.nanoTime() - start, -1);
+                batchSize = 0;
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long rows = -1;
+            if (result instanceof Integer || result instanceof Long) {
+                rows = ((Number) result).longValue();
+            } else if (result instanceof int[]) {
+                rows = Arrays.stream((int[]) result).filter(count -> count > 0).asLongStream().sum();
+            } else if (result instanceof long[]) {
+                rows = Arrays.stream((long[]) result).filter(count -> count > 0).sum();
+            }
+            finish(elapsed, rows);
+            batchSize = 0;
+            return result;
+        }
+
+        private void recordParameter(int index, Object value) {
+            if (index < 1 || index > 10_000) {
+                return;
+            }
+            if (index > params.length) {
+                params = Arrays.copyOf(params, Math.max(index, params.length * 2));
+            }
+            params[index - 1] = value;
+        }
+
+        /**
+         * Complete the timing of an open query once its results are consumed or closed
+         */
+        private void finishQuery() {
+            if (queryOpen) {
+                queryOpen = false;
+                finish(queryNanos, queryRows);
+            }
+        }
+
+        private void finish(long nanos, long rows) {
+            if (trace != null) {
+                trace.recordStatement(nanos);
+            }
+            if (nanos >= SLOW_QUERY_NANOS && LOG.isWarnEnabled()) {
+                LOG.warn("Slow query ({} ms, {} rows{}): {} params={}",
+                        nanos / 1_000_000, rows, batchSize > 0 ? ", batch of " + batchSize : "",
+                        sql, formatParameters());
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug("Query ({} ms, {} rows): {}", nanos / 1_000_000.0, rows, sql);
+            }
+        }
+
+        private String formatParameters() {
+            int count = params.length;
+            while (count > 0 && params[count - 1] == null) {
+                count--;
+            }
+
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                Object value = params[i];
+                if (value instanceof String) {
+                    String text = (String) value;
+                    sb.append('\'')
+                      .append(text.length() > MAX_PARAM_LENGTH ? text.substring(0, MAX_PARAM_LENGTH) + "..." : text)
+                      .append('\'');
+                } else {
+                    sb.append(value);
+                }
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    /**
+     * Counts rows and the time spent fetching them
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet delegate;
+        private final StatementHandler statement;
+
+        private ResultSetHandler(ResultSet delegate, StatementHandler statement) {
+            this.delegate = delegate;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    long start = System.nanoTime();
+                    Object hasRow = QueryTracer.invoke(delegate, method, args);
+                    statement.queryNanos += System.nanoTime() - start;
+                    if (Boolean.TRUE.equals(hasRow)) {
+                        statement.queryRows++;
+                    }
+                    return hasRow;
+                case "close":
+                    try {
+                        return QueryTracer.invoke(delegate, method, args);
+                    } finally {
+                        statement.finishQuery();
+                    }
+                default:
+                    return QueryTracer.invoke(delegate, method, args);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.novatech.taskflow.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Aggregate task counts shown on the dashboard
+ */
+public class DashboardSummary {
+    private final Map<TaskStatus, Long> statusCounts;
+    private final long overdueCount;
+    private final long dueTodayCount;
+
+    public DashboardSummary(Map<TaskStatus, Long> statusCounts, long overdueCount, long dueTodayCount) {
+        this.statusCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            this.statusCounts.put(status, statusCounts.getOrDefault(status, 0L));
+        }
+        this.overdueCount = overdueCount;
+        this.dueTodayCount = dueTodayCount;
+    }
+
+    /**
+     * Get the number of tasks with a status
+     * @param status The status
+     * @return The number of tasks, 0 if there are none
+     */
+    public long getCount(TaskStatus status) {
+        return statusCounts.get(status);
+    }
+
+    public Map<TaskStatus, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : statusCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public long getDueTodayCount() {
+        return dueTodayCount;
+    }
+
+    /**
+     * @return Percentage of tasks that are completed, rounded to the nearest whole number
+     */
+    public long getCompletionRate() {
+        long total = getTotalCount();
+        return total == 0 ? 0 : Math.round((double) getCount(TaskStatus.COMPLETED) / total * 100);
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardSummary{" +
+                "statusCounts=" + statusCounts +
+                ", overdueCount=" + overdueCount +
+                ", dueTodayCount=" + dueTodayCount +
+                '}';
+    }
+}
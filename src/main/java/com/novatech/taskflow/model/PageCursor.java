@@ -0,0 +1,71 @@
+package com.novatech.taskflow.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position in the (due_date, id) ordering used for keyset pagination
+ */
+public class PageCursor {
+    private final Date dueDate;
+    private final Long id;
+
+    public PageCursor(Date dueDate, Long id) {
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    /**
+     * Create a cursor pointing just after the given task
+     * @param task The last task of a page
+     * @return The cursor for the next page
+     */
+    public static PageCursor after(Task task) {
+        return new PageCursor(task.getDueDate(), task.getId());
+    }
+
+    // Getters
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Encode the cursor as an opaque URL-safe token
+     * @return The encoded cursor
+     */
+    public String encode() {
+        String raw = dueDate.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     * @param token The encoded cursor
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            long dueDate = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new PageCursor(new Date(dueDate), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" +
+                "dueDate=" + dueDate +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+package com.novatech.taskflow.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change to one or more tasks, as delivered to event stream subscribers
+ */
+public class TaskEvent {
+    private final String id;
+    private final TaskEventType type;
+    private final List<Long> taskIds;
+    private final Task task;
+    private final long timestamp;
+
+    /**
+     * Constructor
+     * @param id The event ID, used by clients to resume the stream
+     * @param type The kind of change
+     * @param taskIds The affected task IDs
+     * @param task A snapshot of the task for single-task changes, or null
+     */
+    public TaskEvent(String id, TaskEventType type, List<Long> taskIds, Task task) {
+        this.id = id;
+        this.type = type;
+        this.taskIds = Collections.unmodifiableList(taskIds);
+        this.task = task;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public TaskEventType getType() {
+        return type;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskEvent{" +
+                "id='" + id + '\'' +
+                ", type=" + type +
+                ", taskIds=" + taskIds +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,15 @@
+package com.novatech.taskflow.model;
+
+/**
+ * Kinds of change published on the task event stream
+ */
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    COMPLETED,
+    DELETED,
+    /** Moved to the archive; no longer in live listings */
+    ARCHIVED,
+    /** The subscriber missed events and should reload its view */
+    RESET
+}
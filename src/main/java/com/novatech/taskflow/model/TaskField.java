@@ -0,0 +1,76 @@
+package com.novatech.taskflow.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enum of the task attributes a client can select with the fields= parameter
+ */
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    DUE_DATE("due_date", "dueDate"),
+    STATUS("status", "status"),
+    CREATED_AT("created_at", "createdAt"),
+    UPDATED_AT("updated_at", "updatedAt"),
+    VERSION("version", "version");
+
+    /** Every field, i.e. the full task */
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+
+    private final String column;
+    private final String jsonName;
+
+    TaskField(String column, String jsonName) {
+        this.column = column;
+        this.jsonName = jsonName;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parse a comma-separated list of JSON field names, e.g. "title,dueDate".
+     * The id is always included.
+     * @param fields The field list, or null/empty for all fields
+     * @return The selected fields
+     * @throws IllegalArgumentException if a name is not a task field
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return ALL;
+        }
+
+        Set<TaskField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(forJsonName(trimmed));
+        }
+        return selected;
+    }
+
+    /**
+     * Look up a field by its JSON name, ignoring case
+     * @param name The JSON name, e.g. "dueDate"
+     * @return The field
+     * @throws IllegalArgumentException if the name is not a task field
+     */
+    public static TaskField forJsonName(String name) {
+        for (TaskField candidate : values()) {
+            if (candidate.jsonName.equalsIgnoreCase(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,54 @@
+package com.novatech.taskflow.model;
+
+import java.util.Date;
+
+/**
+ * Criteria selecting a set of tasks for a bulk operation.
+ * Criteria that are null are not applied; the rest are combined with AND.
+ */
+public class TaskFilter {
+    private final TaskStatus status;
+    private final Date dueBefore;
+    private final Date dueAfter;
+
+    /**
+     * Constructor
+     * @param status Only tasks with this status, or null
+     * @param dueBefore Only tasks due strictly before this time, or null
+     * @param dueAfter Only tasks due at or after this time, or null
+     */
+    public TaskFilter(TaskStatus status, Date dueBefore, Date dueAfter) {
+        this.status = status;
+        this.dueBefore = dueBefore;
+        this.dueAfter = dueAfter;
+    }
+
+    // Getters
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Date getDueBefore() {
+        return dueBefore;
+    }
+
+    public Date getDueAfter() {
+        return dueAfter;
+    }
+
+    /**
+     * @return true if no criterion is set, i.e. the filter matches every task
+     */
+    public boolean isEmpty() {
+        return status == null && dueBefore == null && dueAfter == null;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskFilter{" +
+                "status=" + status +
+                ", dueBefore=" + dueBefore +
+                ", dueAfter=" + dueAfter +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package com.novatech.taskflow.model;
+
+import java.util.List;
+
+/**
+ * One page of tasks from a keyset-paginated listing
+ */
+public class TaskPage {
+    private final List<Task> tasks;
+    private final String nextCursor;
+
+    public TaskPage(List<Task> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * @return The cursor for the following page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
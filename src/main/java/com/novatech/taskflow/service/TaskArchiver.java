@@ -0,0 +1,133 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.util.DateUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background job that moves finished tasks to the tasks_archive table.
+ * Every intervalMinutes it archives COMPLETED and CANCELLED tasks not updated for
+ * minAgeDays, chunkSize rows per transaction with a pauseMs sleep between chunks,
+ * so row locks are held briefly and foreground writes are not starved.
+ */
+public class TaskArchiver {
+
+    private static final Logger LOG = LogManager.getLogger(TaskArchiver.class);
+    private static volatile TaskArchiver instance;
+
+    private final TaskService taskService;
+    private final int minAgeDays;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final long intervalMinutes;
+    private final LongAdder archived = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean running = true;
+
+    TaskArchiver(TaskService taskService, int minAgeDays, int chunkSize, long pauseMs, long intervalMinutes) {
+        this.taskService = taskService;
+        this.minAgeDays = minAgeDays;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.intervalMinutes = intervalMinutes;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskflow-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the shared archiver
+     * @return The shared archiver
+     */
+    public static TaskArchiver getInstance() {
+        if (instance == null) {
+            synchronized (TaskArchiver.class) {
+                if (instance == null) {
+                    instance = new TaskArchiver(new TaskServiceImpl(),
+                            AppConfig.getInt("archive.minAgeDays", 90),
+                            AppConfig.getInt("archive.chunkSize", 500),
+                            AppConfig.getLong("archive.pauseMs", 200),
+                            AppConfig.getLong("archive.intervalMinutes", 60));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Schedule archiving runs, the first one after a minute so startup is not slowed down
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runSafely, 1, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Archive every task that is due for it, one chunk at a time
+     * @return The number of tasks archived
+     */
+    public int archiveNow() {
+        Date cutoff = DateUtil.addDays(new Date(), -minAgeDays);
+        int total = 0;
+
+        while (running) {
+            int moved = taskService.archiveFinishedTasks(cutoff, chunkSize);
+            total += moved;
+            archived.add(moved);
+            // The DAO may cap the chunk below chunkSize, so only an empty chunk means done
+            if (moved == 0) {
+                break;
+            }
+
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return The number of tasks archived since startup
+     */
+    public long getArchivedCount() {
+        return archived.sum();
+    }
+
+    /**
+     * Stop after the current chunk and cancel further runs
+     */
+    public void shutdown() {
+        running = false;
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runSafely() {
+        try {
+            long start = System.currentTimeMillis();
+            int total = archiveNow();
+            if (total > 0) {
+                LOG.info("Archived {} finished tasks older than {} days in {}ms",
+                        total, minAgeDays, System.currentTimeMillis() - start);
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next run retries
+            LOG.error("Error archiving tasks: {}", e.getMessage(), e);
+        }
+    }
+}
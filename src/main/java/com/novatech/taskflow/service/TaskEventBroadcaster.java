@@ -0,0 +1,176 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskEvent;
+import com.novatech.taskflow.model.TaskEventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process fan-out of task change events.
+ * Recent events are kept in a ring buffer so a reconnecting client can resume
+ * from its last event ID. Each subscriber has a bounded queue; a subscriber
+ * whose queue fills up is evicted rather than slowing down publishers.
+ */
+public class TaskEventBroadcaster {
+
+    private static final TaskEventBroadcaster INSTANCE = new TaskEventBroadcaster(
+            AppConfig.getInt("events.historySize", 1024),
+            AppConfig.getInt("events.subscriberBuffer", 256),
+            AppConfig.getInt("events.maxSubscribers", 1000));
+
+    // Event IDs are "<boot>-<sequence>" so IDs from before a restart are recognised as stale
+    private final String bootPrefix = Long.toString(System.currentTimeMillis(), 36) + "-";
+    private final TaskEvent[] history;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+    private long sequence;
+
+    TaskEventBroadcaster(int historySize, int subscriberBuffer, int maxSubscribers) {
+        this.history = new TaskEvent[historySize];
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Get the broadcaster shared by all services
+     * @return The shared broadcaster
+     */
+    public static TaskEventBroadcaster getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Publish a change to a single task
+     * @param type The kind of change
+     * @param task The task after the change
+     */
+    public void publish(TaskEventType type, Task task) {
+        publish(type, Collections.singletonList(task.getId()), new Task(task));
+    }
+
+    /**
+     * Publish a change to several tasks
+     * @param type The kind of change
+     * @param taskIds The affected task IDs
+     */
+    public void publish(TaskEventType type, List<Long> taskIds) {
+        publish(type, new ArrayList<>(taskIds), null);
+    }
+
+    private synchronized void publish(TaskEventType type, List<Long> taskIds, Task task) {
+        long seq = ++sequence;
+        TaskEvent event = new TaskEvent(bootPrefix + seq, type, taskIds, task);
+        history[(int) (seq % history.length)] = event;
+
+        for (Subscription subscription : subscribers) {
+            if (!subscription.queue.offer(event)) {
+                // Slow consumer: drop it instead of buffering without bound
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * Subscribe to events, replaying any buffered events after lastEventId
+     * @param lastEventId The ID of the last event the client saw, or null for a fresh subscription
+     * @return The subscription
+     * @throws IllegalStateException if the subscriber limit has been reached
+     */
+    public synchronized Subscription subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many event stream subscribers");
+        }
+
+        Subscription subscription = new Subscription();
+
+        if (lastEventId != null && !lastEventId.isEmpty()) {
+            long lastSeen = parseSequence(lastEventId);
+            long oldestBuffered = Math.max(1, sequence - history.length + 1);
+
+            if (lastSeen < 0 || lastSeen > sequence || lastSeen + 1 < oldestBuffered
+                    || sequence - lastSeen > subscriberBuffer) {
+                // Events were lost (restart or too far behind): tell the client to reload
+                subscription.queue.offer(new TaskEvent(bootPrefix + sequence, TaskEventType.RESET,
+                        Collections.emptyList(), null));
+            } else {
+                for (long seq = lastSeen + 1; seq <= sequence; seq++) {
+                    subscription.queue.offer(history[(int) (seq % history.length)]);
+                }
+            }
+        }
+
+        subscribers.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * @return The sequence number in an event ID from this boot, or -1 if it is not one
+     */
+    private long parseSequence(String eventId) {
+        if (!eventId.startsWith(bootPrefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(bootPrefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return The number of active subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Close every subscription
+     */
+    public void shutdown() {
+        for (Subscription subscription : subscribers) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * One subscriber's view of the event stream
+     */
+    public class Subscription implements AutoCloseable {
+        private final BlockingQueue<TaskEvent> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private volatile boolean closed;
+
+        /**
+         * Wait for the next event
+         * @param timeout How long to wait
+         * @param unit The unit of timeout
+         * @return The next event, or null if none arrived in time
+         */
+        public TaskEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return closed ? null : queue.poll(timeout, unit);
+        }
+
+        /**
+         * @return true once the subscription has been closed or evicted
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
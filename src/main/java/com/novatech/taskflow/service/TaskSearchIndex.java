@@ -0,0 +1,432 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.dao.TaskDAO;
+import com.novatech.taskflow.model.Task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * Terms match exactly, by prefix, or approximately through shared trigrams,
+ * and results are ranked by a tf-idf style score with a boost for title hits.
+ *
+ * Removals are lazy: postings keep stale IDs until the next compaction, and
+ * every candidate is checked against the task's current terms at query time.
+ */
+public class TaskSearchIndex {
+
+    private static final TaskSearchIndex INSTANCE = new TaskSearchIndex();
+
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with"));
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_EXPANSIONS = 50;
+    private static final double EXACT_WEIGHT = 1.0;
+    private static final double PREFIX_WEIGHT = 0.6;
+    private static final double FUZZY_WEIGHT = 0.4;
+    private static final double TITLE_BOOST = 2.0;
+    private static final double MIN_SIMILARITY = 0.35;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    // Sorted so prefix lookups are a range scan
+    private final TreeMap<String, Posting> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    // Postings entries belonging to indexed documents, and entries left behind by updates and removals
+    private long liveEntries;
+    private long staleEntries;
+
+    // IDs written while a rebuild is running; the rebuild must not overwrite them
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    /**
+     * Get the index shared by all services
+     * @return The shared index
+     */
+    public static TaskSearchIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Add or replace a task in the index
+     * @param task The task to index
+     */
+    public void index(Task task) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(task.getId());
+        }
+        lock.writeLock().lock();
+        try {
+            put(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a task from the index
+     * @param id The task ID
+     */
+    public void remove(Long id) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(id);
+        }
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.remove(id);
+            if (old != null) {
+                liveEntries -= old.terms.length;
+                staleEntries += old.terms.length;
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reload the index from the database, streaming rows so the table is never held in memory
+     * @param taskDAO The DAO to read from
+     */
+    public void rebuild(TaskDAO taskDAO) {
+        touchedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            taskDAO.forEach(null, task -> {
+                if (touchedDuringRebuild.contains(task.getId())) {
+                    return;
+                }
+                lock.writeLock().lock();
+                try {
+                    put(task);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            rebuilding = false;
+            touchedDuringRebuild.clear();
+        }
+    }
+
+    /**
+     * Find the best matching tasks. Every query term must match.
+     * @param query Free text
+     * @param limit The maximum number of IDs to return
+     * @return Task IDs, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+
+            for (String term : terms) {
+                Map<Long, Double> termScores = scoreTerm(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // AND semantics: keep only documents that also match this term
+                    Map<Long, Double> combined = new HashMap<>();
+                    Map<Long, Double> smaller = scores.size() <= termScores.size() ? scores : termScores;
+                    Map<Long, Double> larger = smaller == scores ? termScores : scores;
+                    for (Map.Entry<Long, Double> entry : smaller.entrySet()) {
+                        Double other = larger.get(entry.getKey());
+                        if (other != null) {
+                            combined.put(entry.getKey(), entry.getValue() + other);
+                        }
+                    }
+                    scores = combined;
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of indexed tasks
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score every document matching one query term exactly, by prefix or by trigram similarity
+     */
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<String, Double> expansions = new HashMap<>();
+        if (postings.containsKey(term)) {
+            expansions.put(term, EXACT_WEIGHT);
+        }
+
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            for (String token : postings.subMap(term, false, term + Character.MAX_VALUE, false).keySet()) {
+                if (expansions.size() >= MAX_EXPANSIONS) {
+                    break;
+                }
+                expansions.putIfAbsent(token, PREFIX_WEIGHT * term.length() / token.length());
+            }
+        }
+
+        if (expansions.isEmpty() && term.length() >= 3) {
+            for (Map.Entry<String, Double> entry : similarTokens(term).entrySet()) {
+                expansions.put(entry.getKey(), FUZZY_WEIGHT * entry.getValue());
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        int docCount = Math.max(1, docs.size());
+
+        for (Map.Entry<String, Double> expansion : expansions.entrySet()) {
+            String token = expansion.getKey();
+            Posting posting = postings.get(token);
+            double idf = Math.log(1 + (double) docCount / Math.max(1, posting.size));
+
+            for (int i = 0; i < posting.size; i++) {
+                long id = posting.ids[i];
+                Doc doc = docs.get(id);
+                if (doc == null || !doc.contains(token)) {
+                    continue; // stale posting
+                }
+                double score = expansion.getValue() * idf * (doc.inTitle(token) ? TITLE_BOOST : 1.0);
+                scores.merge(id, score, Math::max);
+            }
+        }
+
+        return scores;
+    }
+
+    /**
+     * Find indexed tokens whose trigram sets overlap the term's (Jaccard similarity)
+     * @return Token to similarity in (0, 1]
+     */
+    private Map<String, Double> similarTokens(String term) {
+        Set<String> termGrams = trigramsOf(term);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : termGrams) {
+            Set<String> tokens = trigrams.get(gram);
+            if (tokens != null) {
+                for (String token : tokens) {
+                    shared.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<String, Double> similar = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            int union = termGrams.size() + trigramsOf(entry.getKey()).size() - entry.getValue();
+            double similarity = (double) entry.getValue() / union;
+            if (similarity >= MIN_SIMILARITY && postings.containsKey(entry.getKey())) {
+                similar.put(entry.getKey(), similarity);
+            }
+        }
+        return similar;
+    }
+
+    private List<Long> topK(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        Long[] ids = new Long[best.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = best.poll().getKey();
+        }
+        return Arrays.asList(ids);
+    }
+
+    /**
+     * Index a task; caller holds the write lock
+     */
+    private void put(Task task) {
+        List<String> titleTerms = tokenize(task.getTitle());
+        List<String> bodyTerms = tokenize(task.getDescription());
+
+        Set<String> all = new LinkedHashSet<>(titleTerms);
+        all.addAll(bodyTerms);
+
+        // Reuse the posting key instances so each distinct term is stored once
+        String[] terms = new String[all.size()];
+        int titleCount = 0;
+        for (String term : titleTerms) {
+            if (!containsTerm(terms, titleCount, term)) {
+                terms[titleCount++] = term;
+            }
+        }
+        int count = titleCount;
+        for (String term : bodyTerms) {
+            if (!containsTerm(terms, count, term)) {
+                terms[count++] = term;
+            }
+        }
+
+        Doc old = docs.get(task.getId());
+        for (int i = 0; i < terms.length; i++) {
+            String term = terms[i];
+            Posting posting = postings.get(term);
+            if (posting == null) {
+                posting = new Posting();
+                postings.put(term, posting);
+                for (String gram : trigramsOf(term)) {
+                    trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                }
+            } else {
+                terms[i] = postings.ceilingKey(term);
+            }
+            // The ID is already in this posting if the previous version had the term
+            if (old == null || !old.contains(term)) {
+                posting.add(task.getId());
+            }
+        }
+
+        if (old != null) {
+            for (String term : old.terms) {
+                if (!containsTerm(terms, terms.length, term)) {
+                    staleEntries++;
+                }
+            }
+        }
+
+        docs.put(task.getId(), new Doc(terms, titleCount));
+        liveEntries += terms.length - (old != null ? old.terms.length : 0);
+        compactIfNeeded();
+    }
+
+    /**
+     * Drop stale postings once they make up a quarter of all entries
+     */
+    private void compactIfNeeded() {
+        if (staleEntries < 1024 || staleEntries * 4 < liveEntries) {
+            return;
+        }
+
+        postings.clear();
+        trigrams.clear();
+        for (Map.Entry<Long, Doc> entry : docs.entrySet()) {
+            for (String term : entry.getValue().terms) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    posting = new Posting();
+                    postings.put(term, posting);
+                    for (String gram : trigramsOf(term)) {
+                        trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                    }
+                }
+                posting.add(entry.getKey());
+            }
+        }
+        staleEntries = 0;
+    }
+
+    private static boolean containsTerm(String[] terms, int count, String term) {
+        for (int i = 0; i < count; i++) {
+            if (term.equals(terms[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Split text into lower-case alphanumeric terms, dropping stop words
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                String term = current.toString();
+                if (!STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+                current.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = "  " + term + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Terms of one indexed task; the first titleCount terms come from the title
+     */
+    private static final class Doc {
+        private final String[] terms;
+        private final int titleCount;
+
+        private Doc(String[] terms, int titleCount) {
+            this.terms = terms;
+            this.titleCount = titleCount;
+        }
+
+        private boolean contains(String term) {
+            return containsTerm(terms, terms.length, term);
+        }
+
+        private boolean inTitle(String term) {
+            return containsTerm(terms, titleCount, term);
+        }
+    }
+
+    /**
+     * Growable array of task IDs containing one term
+     */
+    private static final class Posting {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.novatech.taskflow.service;
 
+import com.novatech.taskflow.model.DashboardSummary;
 import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
+import com.novatech.taskflow.model.TaskPage;
 import com.novatech.taskflow.model.TaskStatus;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Service interface for task operations
@@ -18,6 +26,21 @@ public interface TaskService {
      */
     Task createTask(Task task);
 
+    /**
+     * Create several tasks in one batched transaction
+     * @param tasks The tasks to create; all must be valid
+     * @return The created tasks with IDs assigned, in the same order
+     */
+    List<Task> createTasks(List<Task> tasks);
+
+    /**
+     * Insert tasks read from an export in one batched transaction, keeping their
+     * status and timestamps; new IDs are assigned
+     * @param tasks The tasks to insert; all must pass validateImportedTask
+     * @return The inserted tasks with IDs assigned, in the same order
+     */
+    List<Task> importTasks(List<Task> tasks);
+
     /**
      * Get a task by its ID
      * @param id The task ID
@@ -25,12 +48,84 @@ public interface TaskService {
      */
     Task getTaskById(Long id);
 
+    /**
+     * Get a task by its ID, optionally looking in the archive
+     * @param id The task ID
+     * @param includeArchived Whether archived tasks are returned too
+     * @return The task or null if not found
+     */
+    Task getTaskById(Long id, boolean includeArchived);
+
+    /**
+     * Get a task to modify, as last committed on the primary rather than from the cache
+     * @param id The task ID
+     * @return The task or null if not found
+     */
+    Task getTaskForUpdate(Long id);
+
+    /**
+     * Get several tasks by ID
+     * @param ids The task IDs
+     * @return The tasks that exist, in no particular order
+     */
+    List<Task> getTasksByIds(Collection<Long> ids);
+
     /**
      * Get all tasks
      * @return List of all tasks
      */
     List<Task> getAllTasks();
 
+    /**
+     * Stream tasks to a consumer without loading them all into memory
+     * @param status The status to filter by, or null for all tasks
+     * @param action Called once per task in due date order
+     */
+    void forEachTask(TaskStatus status, Consumer<Task> action);
+
+    /**
+     * Stream tasks to a consumer, loading only the given fields
+     * @param status The status to filter by, or null for all tasks
+     * @param fields The fields to load; the others are left null
+     * @param action Called once per task in due date order
+     */
+    void forEachTask(TaskStatus status, Set<TaskField> fields, Consumer<Task> action);
+
+    /**
+     * Stream tasks to a consumer, optionally followed by archived tasks
+     * @param status The status to filter by, or null for all tasks
+     * @param fields The fields to load; the others are left null
+     * @param includeArchived Whether archived tasks are streamed after the live ones
+     * @param action Called once per task
+     */
+    void forEachTask(TaskStatus status, Set<TaskField> fields, boolean includeArchived, Consumer<Task> action);
+
+    /**
+     * Get one page of tasks ordered by due date
+     * @param status The status to filter by, or null for all tasks
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @param limit The page size
+     * @return The page with a cursor for the following page
+     */
+    TaskPage getTaskPage(TaskStatus status, String cursor, int limit);
+
+    /**
+     * Get one page of tasks, loading only the given fields
+     * @param status The status to filter by, or null for all tasks
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @param limit The page size
+     * @param fields The fields to load; the others are left null
+     * @return The page with a cursor for the following page
+     */
+    TaskPage getTaskPage(TaskStatus status, String cursor, int limit, Set<TaskField> fields);
+
+    /**
+     * Get tasks for list views, with long descriptions abbreviated
+     * @param status The status to filter by, or null for all tasks
+     * @return List of tasks whose descriptions are at most 50 characters plus "..."
+     */
+    List<Task> getTaskSummaries(TaskStatus status);
+
     /**
      * Update an existing task
      * @param task The task to update
@@ -38,12 +133,44 @@ public interface TaskService {
      */
     Task updateTask(Task task);
 
+    /**
+     * Update several tasks in one batched transaction
+     * @param tasks The tasks to update; all must be valid and have an ID
+     * @return The number of rows updated per task, in the same order
+     */
+    int[] updateTasks(List<Task> tasks);
+
+    /**
+     * Change some fields of a task, writing only their columns
+     * @param id The task ID
+     * @param changes The new values of the changed fields: title, description, dueDate or status
+     * @param expectedVersion The version the change applies to, or null for any version
+     * @return true if updated, false if not found
+     */
+    boolean patchTask(Long id, Map<TaskField, Object> changes, Long expectedVersion);
+
+    /**
+     * Move every task matching a filter to a new status with one set-based update
+     * @param filter The tasks to change; must set at least one criterion
+     * @param status The new status
+     * @return The number of tasks changed
+     */
+    int transitionTasks(TaskFilter filter, TaskStatus status);
+
+    /**
+     * Move one chunk of finished tasks to the archive
+     * @param finishedBefore Only COMPLETED and CANCELLED tasks last updated before this are moved
+     * @param limit The most tasks to move in this transaction
+     * @return The number of tasks archived
+     */
+    int archiveFinishedTasks(Date finishedBefore, int limit);
+
     /**
      * Mark a task as completed
      * @param id The task ID
-     * @return The updated task
+     * @return true if updated, false if not found
      */
-    Task markTaskAsCompleted(Long id);
+    boolean markTaskAsCompleted(Long id);
 
     /**
      * Delete a task
@@ -52,6 +179,13 @@ public interface TaskService {
      */
     boolean deleteTask(Long id);
 
+    /**
+     * Delete several tasks in one batched transaction
+     * @param ids The task IDs
+     * @return The number of rows deleted per ID, in the same order
+     */
+    int[] deleteTasks(List<Long> ids);
+
     /**
      * Get tasks by status
      * @param status The status to filter by
@@ -65,22 +199,63 @@ public interface TaskService {
      */
     List<Task> getTasksDueToday();
 
+    /**
+     * Get the earliest tasks due today
+     * @param limit The maximum number of tasks to return
+     * @return Up to limit tasks due today
+     */
+    List<Task> getTasksDueToday(int limit);
+
     /**
      * Get overdue tasks (due date in the past and not completed)
      * @return List of overdue tasks
      */
     List<Task> getOverdueTasks();
 
+    /**
+     * Get the earliest overdue tasks
+     * @param limit The maximum number of tasks to return
+     * @return Up to limit overdue tasks
+     */
+    List<Task> getOverdueTasks(int limit);
+
+    /**
+     * Get task counts for the dashboard in a single query
+     * @return Counts per status plus overdue and due-today counts
+     */
+    DashboardSummary getDashboardSummary();
+
+    /**
+     * Full-text search over task titles and descriptions
+     * @param query Free text; every word must match exactly, by prefix or approximately
+     * @param limit The maximum number of tasks to return
+     * @return Matching tasks, best match first
+     */
+    List<Task> searchTasks(String query, int limit);
+
     /**
      * Get tasks sorted by due date
      * @return List of tasks sorted by due date
      */
     List<Task> getTasksSortedByDueDate();
 
+    /**
+     * Get an opaque tag that changes whenever the stored tasks change through the DAO, on any instance
+     * @return The current change tag
+     */
+    String getChangeTag();
+
     /**
      * Validate if a task is valid
      * @param task The task to validate
      * @return true if valid, false otherwise
      */
     boolean validateTask(Task task);
+
+    /**
+     * Validate a task read from an export; unlike validateTask, a past due date is allowed
+     * @param task The task to validate
+     * @return true if valid, false otherwise
+     */
+    boolean validateImportedTask(Task task);
 }
\ No newline at end of file
@@ -1,14 +1,32 @@
 package com.novatech.taskflow.service;
 
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.config.DatabaseConfig;
 import com.novatech.taskflow.dao.TaskDAO;
-import com.novatech.taskflow.dao.TaskDAOImpl;
+import com.novatech.taskflow.dao.TaskDAOFactory;
+import com.novatech.taskflow.model.DashboardSummary;
+import com.novatech.taskflow.model.PageCursor;
 import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskEventType;
+import com.novatech.taskflow.model.TaskField;
+import com.novatech.taskflow.model.TaskFilter;
+import com.novatech.taskflow.model.TaskPage;
 import com.novatech.taskflow.model.TaskStatus;
 import com.novatech.taskflow.util.DateUtil;
 
-import java.util.Calendar;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -16,13 +34,27 @@ import java.util.stream.Collectors;
  */
 public class TaskServiceImpl implements TaskService {
 
+    /** Largest page a caller may request */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /** Description length shown in list views */
+    public static final int SUMMARY_DESCRIPTION_LENGTH = 50;
+
+    /** How long a create waits for its write-behind batch to commit */
+    private static final long WRITE_BEHIND_TIMEOUT_MS = AppConfig.getLong("writeBehind.commitTimeoutMs", 30_000);
+
     private final TaskDAO taskDAO;
+    private final TaskEventBroadcaster eventBroadcaster = TaskEventBroadcaster.getInstance();
+    private final TaskSearchIndex searchIndex = TaskSearchIndex.getInstance();
+    private final TaskWriteBehindQueue writeBehind;
 
     /**
-     * Constructor with default DAO implementation
+     * Constructor with the shared DAO implementation
      */
     public TaskServiceImpl() {
-        this.taskDAO = new TaskDAOImpl();
+        this.taskDAO = TaskDAOFactory.getTaskDAO();
+        this.writeBehind = AppConfig.getBoolean("writeBehind.enabled", false)
+                ? TaskWriteBehindQueue.getInstance() : null;
     }
 
     /**
@@ -30,17 +62,82 @@ public class TaskServiceImpl implements TaskService {
      */
     public TaskServiceImpl(TaskDAO taskDAO) {
         this.taskDAO = taskDAO;
+        this.writeBehind = null;
     }
 
     /**
-     * Create a new task
+     * Create a new task.
+     * In write-behind mode the insert is group-committed with other creates and
+     * this call waits for its batch.
      */
     @Override
     public Task createTask(Task task) {
+        prepareForCreate(task);
+
+        Task created;
+        if (writeBehind != null) {
+            try {
+                created = writeBehind.submit(task).orTimeout(WRITE_BEHIND_TIMEOUT_MS, TimeUnit.MILLISECONDS).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    // The batch may still commit, so this is not a rejection the client could simply retry
+                    throw new RuntimeException("Timed out waiting for the task to be written", e.getCause());
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        } else {
+            created = taskDAO.create(task);
+        }
+        taskChanged(TaskEventType.CREATED, created);
+        return created;
+    }
+
+    /**
+     * Create several tasks in one batched transaction
+     */
+    @Override
+    public List<Task> createTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            prepareForCreate(task);
+        }
+        return insertAll(tasks);
+    }
+
+    /**
+     * Insert tasks read from an export, keeping their status and timestamps
+     */
+    @Override
+    public List<Task> importTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (!validateImportedTask(task)) {
+                throw new IllegalArgumentException("Invalid task data");
+            }
+            task.setId(null);
+            applyDefaults(task);
+        }
+        return insertAll(tasks);
+    }
+
+    private List<Task> insertAll(List<Task> tasks) {
+        List<Task> created = taskDAO.createAll(tasks);
+        for (Task task : created) {
+            searchIndex.index(task);
+        }
+        tasksChanged(TaskEventType.CREATED, created.stream().map(Task::getId).collect(Collectors.toList()));
+        return created;
+    }
+
+    /**
+     * Validate a new task and fill in defaults
+     */
+    private void prepareForCreate(Task task) {
         if (!validateTask(task)) {
             throw new IllegalArgumentException("Invalid task data");
         }
+        applyDefaults(task);
+    }
 
+    private void applyDefaults(Task task) {
         // Ensure created and updated dates are set
         if (task.getCreatedAt() == null) {
             task.setCreatedAt(new Date());
@@ -53,8 +150,6 @@ public class TaskServiceImpl implements TaskService {
         if (task.getStatus() == null) {
             task.setStatus(TaskStatus.PENDING);
         }
-
-        return taskDAO.create(task);
     }
 
     /**
@@ -69,6 +164,38 @@ public class TaskServiceImpl implements TaskService {
         return taskDAO.getById(id);
     }
 
+    /**
+     * Get a task to modify from the primary, so its version is current
+     */
+    @Override
+    public Task getTaskForUpdate(Long id) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Invalid task ID");
+        }
+
+        return taskDAO.getLatestById(id);
+    }
+
+    /**
+     * Get a task by its ID, optionally looking in the archive
+     */
+    @Override
+    public Task getTaskById(Long id, boolean includeArchived) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Invalid task ID");
+        }
+
+        return taskDAO.getById(id, includeArchived);
+    }
+
+    /**
+     * Get several tasks by ID
+     */
+    @Override
+    public List<Task> getTasksByIds(Collection<Long> ids) {
+        return taskDAO.getByIds(ids);
+    }
+
     /**
      * Get all tasks
      */
@@ -77,6 +204,67 @@ public class TaskServiceImpl implements TaskService {
         return taskDAO.getAll();
     }
 
+    /**
+     * Stream tasks to a consumer
+     */
+    @Override
+    public void forEachTask(TaskStatus status, Consumer<Task> action) {
+        taskDAO.forEach(status, action);
+    }
+
+    /**
+     * Stream tasks to a consumer, loading only some fields
+     */
+    @Override
+    public void forEachTask(TaskStatus status, Set<TaskField> fields, Consumer<Task> action) {
+        taskDAO.forEach(status, fields, action);
+    }
+
+    /**
+     * Stream tasks to a consumer, optionally followed by archived tasks
+     */
+    @Override
+    public void forEachTask(TaskStatus status, Set<TaskField> fields, boolean includeArchived, Consumer<Task> action) {
+        taskDAO.forEach(status, fields, includeArchived, action);
+    }
+
+    /**
+     * Get tasks for list views
+     */
+    @Override
+    public List<Task> getTaskSummaries(TaskStatus status) {
+        return taskDAO.getSummaries(status, SUMMARY_DESCRIPTION_LENGTH);
+    }
+
+    /**
+     * Get one page of tasks ordered by due date
+     */
+    @Override
+    public TaskPage getTaskPage(TaskStatus status, String cursor, int limit) {
+        return getTaskPage(status, cursor, limit, TaskField.ALL);
+    }
+
+    /**
+     * Get one page of tasks, loading only some fields
+     */
+    @Override
+    public TaskPage getTaskPage(TaskStatus status, String cursor, int limit, Set<TaskField> fields) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        PageCursor after = cursor == null || cursor.isEmpty() ? null : PageCursor.decode(cursor);
+
+        // Fetch one extra row to find out whether another page follows
+        List<Task> tasks = taskDAO.getPage(status, after, limit + 1, fields);
+        if (tasks.size() <= limit) {
+            return new TaskPage(tasks, null);
+        }
+
+        List<Task> page = tasks.subList(0, limit);
+        return new TaskPage(page, PageCursor.after(page.get(limit - 1)).encode());
+    }
+
     /**
      * Update an existing task
      */
@@ -93,24 +281,143 @@ public class TaskServiceImpl implements TaskService {
         // Update the updated_at timestamp
         task.setUpdatedAt(new Date());
 
-        return taskDAO.update(task);
+        Task updated = taskDAO.update(task);
+        taskChanged(TaskEventType.UPDATED, updated);
+        return updated;
     }
 
     /**
-     * Mark a task as completed
+     * Update several tasks in one batched transaction
      */
     @Override
-    public Task markTaskAsCompleted(Long id) {
-        Task task = getTaskById(id);
+    public int[] updateTasks(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (task.getId() == null || task.getId() <= 0) {
+                throw new IllegalArgumentException("Task ID is required for update");
+            }
 
-        if (task == null) {
-            throw new IllegalArgumentException("Task not found with ID: " + id);
+            if (!validateTask(task)) {
+                throw new IllegalArgumentException("Invalid task data");
+            }
+
+            task.setUpdatedAt(new Date());
         }
 
-        task.setStatus(TaskStatus.COMPLETED);
-        task.setUpdatedAt(new Date());
+        int[] affectedRows = taskDAO.updateAll(tasks);
 
-        return taskDAO.update(task);
+        List<Long> updatedIds = new ArrayList<>();
+        for (int i = 0; i < affectedRows.length; i++) {
+            if (affectedRows[i] > 0 || affectedRows[i] == Statement.SUCCESS_NO_INFO) {
+                updatedIds.add(tasks.get(i).getId());
+                searchIndex.index(tasks.get(i));
+            }
+        }
+        tasksChanged(TaskEventType.UPDATED, updatedIds);
+        return affectedRows;
+    }
+
+    /**
+     * Change some fields of a task.
+     * None of the checks need the stored row, so it is only read back when the
+     * search index has to see a new title or description.
+     */
+    @Override
+    public boolean patchTask(Long id, Map<TaskField, Object> changes, Long expectedVersion) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Invalid task ID");
+        }
+
+        if (changes.containsKey(TaskField.TITLE)) {
+            String title = (String) changes.get(TaskField.TITLE);
+            if (title == null || title.trim().isEmpty() || title.length() > 100) {
+                throw new IllegalArgumentException("Title is required and must be at most 100 characters");
+            }
+        }
+        if (changes.containsKey(TaskField.DESCRIPTION)) {
+            String description = (String) changes.get(TaskField.DESCRIPTION);
+            if (description != null && description.length() > 500) {
+                throw new IllegalArgumentException("Description must be at most 500 characters");
+            }
+        }
+        if (changes.containsKey(TaskField.DUE_DATE) && changes.get(TaskField.DUE_DATE) == null) {
+            throw new IllegalArgumentException("Due date is required");
+        }
+        if (changes.containsKey(TaskField.STATUS) && changes.get(TaskField.STATUS) == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+
+        if (changes.isEmpty()) {
+            return getTaskById(id) != null;
+        }
+
+        if (!taskDAO.patch(id, changes, expectedVersion)) {
+            return false;
+        }
+
+        TaskEventType type = changes.get(TaskField.STATUS) == TaskStatus.COMPLETED
+                ? TaskEventType.COMPLETED : TaskEventType.UPDATED;
+        if (changes.containsKey(TaskField.TITLE) || changes.containsKey(TaskField.DESCRIPTION)) {
+            Task task = getTaskById(id);
+            if (task != null) {
+                taskChanged(type, task);
+                return true;
+            }
+        }
+        tasksChanged(type, Collections.singletonList(id));
+        return true;
+    }
+
+    /**
+     * Move every task matching a filter to a new status.
+     * Subscribers get a single event listing all changed tasks.
+     */
+    @Override
+    public int transitionTasks(TaskFilter filter, TaskStatus status) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("At least one filter criterion is required");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+
+        List<Long> ids = taskDAO.updateStatusWhere(filter, status);
+        tasksChanged(status == TaskStatus.COMPLETED ? TaskEventType.COMPLETED : TaskEventType.UPDATED, ids);
+        return ids.size();
+    }
+
+    /**
+     * Move one chunk of finished tasks to the archive; they leave the search index
+     * and live listings
+     */
+    @Override
+    public int archiveFinishedTasks(Date finishedBefore, int limit) {
+        if (finishedBefore == null || limit <= 0) {
+            throw new IllegalArgumentException("A cutoff date and a positive limit are required");
+        }
+
+        List<Long> ids = taskDAO.archiveFinished(finishedBefore, limit);
+        for (Long id : ids) {
+            searchIndex.remove(id);
+        }
+        tasksChanged(TaskEventType.ARCHIVED, ids);
+        return ids.size();
+    }
+
+    /**
+     * Mark a task as completed
+     */
+    @Override
+    public boolean markTaskAsCompleted(Long id) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Invalid task ID");
+        }
+
+        // A single UPDATE; the title and description are unchanged so the search index is too
+        boolean updated = taskDAO.updateStatus(id, TaskStatus.COMPLETED);
+        if (updated) {
+            tasksChanged(TaskEventType.COMPLETED, Collections.singletonList(id));
+        }
+        return updated;
     }
 
     /**
@@ -122,7 +429,36 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("Invalid task ID");
         }
 
-        return taskDAO.delete(id);
+        boolean deleted = taskDAO.delete(id);
+        if (deleted) {
+            searchIndex.remove(id);
+            tasksChanged(TaskEventType.DELETED, Collections.singletonList(id));
+        }
+        return deleted;
+    }
+
+    /**
+     * Delete several tasks in one batched transaction
+     */
+    @Override
+    public int[] deleteTasks(List<Long> ids) {
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("Invalid task ID");
+            }
+        }
+
+        int[] affectedRows = taskDAO.deleteAll(ids);
+
+        List<Long> deletedIds = new ArrayList<>();
+        for (int i = 0; i < affectedRows.length; i++) {
+            if (affectedRows[i] > 0 || affectedRows[i] == Statement.SUCCESS_NO_INFO) {
+                deletedIds.add(ids.get(i));
+                searchIndex.remove(ids.get(i));
+            }
+        }
+        tasksChanged(TaskEventType.DELETED, deletedIds);
+        return affectedRows;
     }
 
     /**
@@ -142,19 +478,21 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public List<Task> getTasksDueToday() {
-        // Get all tasks
-        List<Task> allTasks = taskDAO.getAll();
+        Date today = DateUtil.today();
+        Date tomorrow = DateUtil.addDays(today, 1);
 
-        // Filter tasks due today
-        Date today = DateUtil.stripTime(new Date());
+        return taskDAO.getDueBetween(today, tomorrow);
+    }
+
+    /**
+     * Get the earliest tasks due today
+     */
+    @Override
+    public List<Task> getTasksDueToday(int limit) {
+        Date today = DateUtil.today();
         Date tomorrow = DateUtil.addDays(today, 1);
 
-        return allTasks.stream()
-                .filter(task -> {
-                    Date dueDate = DateUtil.stripTime(task.getDueDate());
-                    return dueDate.equals(today) && task.getStatus() != TaskStatus.COMPLETED;
-                })
-                .collect(Collectors.toList());
+        return taskDAO.getDueBetween(today, tomorrow, limit);
     }
 
     /**
@@ -162,19 +500,57 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public List<Task> getOverdueTasks() {
-        // Get current date without time component
-        Date today = DateUtil.stripTime(new Date());
+        // Overdue means due before the start of today and not completed
+        return taskDAO.getOverdue(DateUtil.today());
+    }
 
-        // Get all tasks
-        List<Task> allTasks = taskDAO.getAll();
+    /**
+     * Get the earliest overdue tasks
+     */
+    @Override
+    public List<Task> getOverdueTasks(int limit) {
+        return taskDAO.getOverdue(DateUtil.today(), limit);
+    }
 
-        // Filter overdue tasks (due date before today and not completed)
-        return allTasks.stream()
-                .filter(task -> {
-                    Date dueDate = DateUtil.stripTime(task.getDueDate());
-                    return dueDate.before(today) && task.getStatus() != TaskStatus.COMPLETED;
-                })
-                .collect(Collectors.toList());
+    /**
+     * Get task counts for the dashboard
+     */
+    @Override
+    public DashboardSummary getDashboardSummary() {
+        Date today = DateUtil.today();
+        Date tomorrow = DateUtil.addDays(today, 1);
+
+        return taskDAO.getSummary(today, today, tomorrow);
+    }
+
+    /**
+     * Search task titles and descriptions
+     */
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Long> ids = searchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Load the hits in one query, then restore the ranking
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task task : taskDAO.getByIds(ids)) {
+            byId.put(task.getId(), task);
+        }
+
+        List<Task> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = byId.get(id);
+            if (task != null) {
+                results.add(task);
+            }
+        }
+        return results;
     }
 
     /**
@@ -186,22 +562,39 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Validate task data
+     * Get the current change tag
      */
     @Override
-    public boolean validateTask(Task task) {
-        // Title is required and must be between 1 and 100 characters
-        if (task.getTitle() == null || task.getTitle().trim().isEmpty() || task.getTitle().length() > 100) {
-            return false;
-        }
+    public String getChangeTag() {
+        return taskDAO.getChangeTag();
+    }
 
-        // Description can be null but if provided must be less than 500 characters
-        if (task.getDescription() != null && task.getDescription().length() > 500) {
-            return false;
+    /**
+     * Record a change to one task and notify subscribers
+     */
+    private void taskChanged(TaskEventType type, Task task) {
+        searchIndex.index(task);
+        DatabaseConfig.getReplicaRouter().recordWrite();
+        eventBroadcaster.publish(type, task);
+    }
+
+    /**
+     * Record a change to several tasks and notify subscribers with a single event
+     */
+    private void tasksChanged(TaskEventType type, List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
         }
+        DatabaseConfig.getReplicaRouter().recordWrite();
+        eventBroadcaster.publish(type, taskIds);
+    }
 
-        // Due date is required and must not be in the past when creating a new task
-        if (task.getDueDate() == null) {
+    /**
+     * Validate task data
+     */
+    @Override
+    public boolean validateTask(Task task) {
+        if (!validateImportedTask(task)) {
             return false;
         }
 
@@ -216,4 +609,23 @@ public class TaskServiceImpl implements TaskService {
 
         return true;
     }
+
+    /**
+     * Validate task data read from an export, where past due dates are expected
+     */
+    @Override
+    public boolean validateImportedTask(Task task) {
+        // Title is required and must be between 1 and 100 characters
+        if (task.getTitle() == null || task.getTitle().trim().isEmpty() || task.getTitle().length() > 100) {
+            return false;
+        }
+
+        // Description can be null but if provided must be less than 500 characters
+        if (task.getDescription() != null && task.getDescription().length() > 500) {
+            return false;
+        }
+
+        // Due date is required
+        return task.getDueDate() != null;
+    }
 }
\ No newline at end of file
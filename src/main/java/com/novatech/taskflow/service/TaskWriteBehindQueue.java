@@ -0,0 +1,309 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.config.AppConfig;
+import com.novatech.taskflow.dao.TaskDAO;
+import com.novatech.taskflow.dao.TaskDAOFactory;
+import com.novatech.taskflow.model.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group commit for new tasks.
+ * Callers queue a task and get a future; a single committer thread inserts queued
+ * tasks in batches of up to maxBatchSize rows, waiting at most maxDelayMs after the
+ * first one, so many concurrent creates share one transaction and one log flush.
+ * When the queue is full, callers wait up to offerTimeoutMs and are then rejected.
+ *
+ * Submitting never takes a lock: the queue is a ConcurrentLinkedQueue bounded by
+ * a separate atomic count, and the committer parks only when the queue is empty.
+ *
+ * Every returned future completes: a task that cannot be committed because the
+ * committer has stopped (shutdown, shutdown timeout or a fatal error) fails with
+ * RejectedExecutionException.
+ */
+public class TaskWriteBehindQueue {
+
+    // How long a caller facing a full queue parks before checking again
+    private static final long FULL_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    // Upper bound on an idle committer's sleep; submit and shutdown wake it sooner
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile TaskWriteBehindQueue instance;
+
+    private final TaskDAO taskDAO;
+    private final ConcurrentLinkedQueue<PendingCreate> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean committerParked = new AtomicBoolean();
+    private final int capacity;
+    private final int maxBatchSize;
+    private final long maxDelayMs;
+    private final long offerTimeoutMs;
+    private final Thread committer;
+    private volatile boolean running = true;
+    // Set once the committer will take nothing more from the queue
+    private volatile boolean stopped;
+
+    TaskWriteBehindQueue(TaskDAO taskDAO, int capacity, int maxBatchSize, long maxDelayMs, long offerTimeoutMs) {
+        this.taskDAO = taskDAO;
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.committer = new Thread(this::run, "taskflow-write-behind");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Get the queue shared by all services, starting its committer on first use
+     * @return The shared queue
+     */
+    public static TaskWriteBehindQueue getInstance() {
+        if (instance == null) {
+            synchronized (TaskWriteBehindQueue.class) {
+                if (instance == null) {
+                    instance = new TaskWriteBehindQueue(TaskDAOFactory.getTaskDAO(),
+                            AppConfig.getInt("writeBehind.capacity", 10_000),
+                            AppConfig.getInt("writeBehind.maxBatchSize", 500),
+                            AppConfig.getLong("writeBehind.maxDelayMs", 5),
+                            AppConfig.getLong("writeBehind.offerTimeoutMs", 1000));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Queue a validated task for insertion
+     * @param task The task to create
+     * @return A future completed with the task, now carrying its ID, once it is committed
+     * @throws RejectedExecutionException if the queue stays full for the offer timeout or is shut down
+     */
+    public CompletableFuture<Task> submit(Task task) {
+        if (!running) {
+            throw new RejectedExecutionException("Task write-behind queue is shut down");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        while (!reserveSlot()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new RejectedExecutionException("Task write-behind queue is full");
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, FULL_BACKOFF_NANOS));
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RejectedExecutionException("Interrupted while waiting for the task write-behind queue");
+            }
+            if (!running) {
+                throw new RejectedExecutionException("Task write-behind queue is shut down");
+            }
+        }
+
+        PendingCreate pending = new PendingCreate(task);
+        queue.offer(pending);
+        if (stopped) {
+            // The committer exited between the running check and the offer; nobody else will take it
+            failQueued(null);
+        } else if (committerParked.get() && committerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(committer);
+        }
+        return pending.future;
+    }
+
+    /**
+     * Claim room for one task, failing rather than waiting when the queue is full
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return The number of tasks waiting to be inserted
+     */
+    public int getQueuedCount() {
+        return size.get();
+    }
+
+    /**
+     * Stop accepting tasks, insert the ones already queued and stop the committer.
+     * Tasks still queued when the committer has not finished within 30 seconds are failed.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(committer);
+        try {
+            committer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stopped = true;
+        failQueued(null);
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        Throwable failure = null;
+
+        try {
+            commitUntilShutdown(batch);
+        } catch (Throwable t) {
+            // An Error from the driver or the JVM; fail what is left rather than leave it hanging
+            failure = t;
+            throw t;
+        } finally {
+            running = false;
+            stopped = true;
+            fail(batch, failure);
+            failQueued(failure);
+        }
+    }
+
+    /**
+     * Insert batches until shutdown has been requested and the queue is empty
+     * @param batch The batch being filled; left holding its tasks if an insert throws
+     */
+    private void commitUntilShutdown(List<PendingCreate> batch) {
+        boolean interrupted = false;
+
+        while (running || !queue.isEmpty()) {
+            PendingCreate first = take();
+            if (first == null) {
+                // Only shutdown stops the committer; an interrupt is remembered and restored on exit
+                interrupted |= Thread.interrupted();
+                awaitWork(IDLE_PARK_NANOS);
+                continue;
+            }
+            batch.add(first);
+
+            // Fill the batch until it is full or the first task has waited maxDelayMs
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+            while (batch.size() < maxBatchSize) {
+                PendingCreate next = take();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                interrupted |= Thread.interrupted();
+                awaitWork(remaining);
+            }
+
+            flush(batch);
+            batch.clear();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Fail every task still in the queue
+     */
+    private void failQueued(Throwable cause) {
+        List<PendingCreate> left = new ArrayList<>();
+        PendingCreate pending;
+        while ((pending = take()) != null) {
+            left.add(pending);
+        }
+        fail(left, cause);
+    }
+
+    /**
+     * Fail the given tasks, leaving any already completed as they are
+     */
+    private static void fail(List<PendingCreate> pendings, Throwable cause) {
+        for (PendingCreate pending : pendings) {
+            pending.future.completeExceptionally(
+                    new RejectedExecutionException("Task write-behind queue is shut down", cause));
+        }
+    }
+
+    /**
+     * Take the oldest queued task, freeing its slot for a waiting caller
+     * @return The task, or null if the queue is empty
+     */
+    private PendingCreate take() {
+        PendingCreate pending = queue.poll();
+        if (pending != null) {
+            size.decrementAndGet();
+        }
+        return pending;
+    }
+
+    /**
+     * Park the committer until a task is submitted, shutdown is requested or the time is up
+     */
+    private void awaitWork(long nanos) {
+        committerParked.set(true);
+        // Re-check after publishing the flag so a submit that missed it is not left waiting
+        if (running && queue.isEmpty()) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        committerParked.set(false);
+    }
+
+    /**
+     * Insert a batch in one transaction; if that fails, insert its tasks one by one
+     * so a single bad row does not fail the others
+     */
+    private void flush(List<PendingCreate> batch) {
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            tasks.add(pending.task);
+        }
+
+        try {
+            taskDAO.createAll(tasks);
+            for (PendingCreate pending : batch) {
+                pending.future.complete(pending.task);
+            }
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+        }
+
+        for (PendingCreate pending : batch) {
+            pending.task.setId(null);
+            try {
+                pending.future.complete(taskDAO.create(pending.task));
+            } catch (RuntimeException e) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * A queued task and the future its caller waits on
+     */
+    private static final class PendingCreate {
+        private final Task task;
+        private final CompletableFuture<Task> future = new CompletableFuture<>();
+
+        private PendingCreate(Task task) {
+            this.task = task;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package com.novatech.taskflow.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 
 /**
- * Utility class for date operations
+ * Utility class for date operations.
+ * All formatters are immutable java.time instances, so every method is safe to
+ * call from concurrent request threads.
  */
 public class DateUtil {
 
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
-    private static final SimpleDateFormat DATE_TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_PARSER =
+            DateTimeFormatter.ofPattern("uuuu-M-d").withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss").withResolverStyle(ResolverStyle.STRICT);
+
+    // Bounds of the current day, recomputed the first time they are used after midnight
+    private static volatile DayBounds currentDay;
 
     /**
      * Convert a string date in format yyyy-MM-dd to a Date object
@@ -19,12 +35,33 @@ public class DateUtil {
      * @return The Date object or null if parsing fails
      */
     public static Date parseDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            return null;
+        }
+
         try {
-            if (dateStr == null || dateStr.trim().isEmpty()) {
-                return null;
-            }
-            return DATE_FORMAT.parse(dateStr);
-        } catch (ParseException e) {
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor parsed = DATE_PARSER.parse(dateStr.trim(), position);
+            return new Date(startOfDayMillis(LocalDate.from(parsed)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Convert a string in format yyyy-MM-dd HH:mm:ss to a Date object
+     * @param dateTimeStr The datetime string
+     * @return The Date object or null if parsing fails
+     */
+    public static Date parseDateTime(String dateTimeStr) {
+        if (dateTimeStr == null || dateTimeStr.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            LocalDateTime parsed = LocalDateTime.parse(dateTimeStr.trim(), DATE_TIME_FORMAT);
+            return Date.from(parsed.atZone(ZONE).toInstant());
+        } catch (DateTimeException e) {
             return null;
         }
     }
@@ -38,7 +75,7 @@ public class DateUtil {
         if (date == null) {
             return "";
         }
-        return DATE_FORMAT.format(date);
+        return DATE_FORMAT.format(LocalDate.ofInstant(Instant.ofEpochMilli(date.getTime()), ZONE));
     }
 
     /**
@@ -50,7 +87,7 @@ public class DateUtil {
         if (date == null) {
             return "";
         }
-        return DATE_TIME_FORMAT.format(date);
+        return DATE_TIME_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZONE));
     }
 
     /**
@@ -63,14 +100,13 @@ public class DateUtil {
             return null;
         }
 
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
+        long millis = date.getTime();
+        DayBounds today = today0();
+        if (today.contains(millis)) {
+            return new Date(today.start);
+        }
 
-        return calendar.getTime();
+        return new Date(startOfDayMillis(LocalDate.ofInstant(Instant.ofEpochMilli(millis), ZONE)));
     }
 
     /**
@@ -84,11 +120,13 @@ public class DateUtil {
             return null;
         }
 
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        calendar.add(Calendar.DATE, days);
+        DayBounds today = today0();
+        if (days == 1 && date.getTime() == today.start) {
+            return new Date(today.end);
+        }
 
-        return calendar.getTime();
+        // Calendar-day arithmetic keeps the wall-clock time across DST changes
+        return Date.from(Instant.ofEpochMilli(date.getTime()).atZone(ZONE).plusDays(days).toInstant());
     }
 
     /**
@@ -101,12 +139,7 @@ public class DateUtil {
             return false;
         }
 
-        Calendar today = Calendar.getInstance();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-
-        return today.get(Calendar.YEAR) == calendar.get(Calendar.YEAR)
-                && today.get(Calendar.DAY_OF_YEAR) == calendar.get(Calendar.DAY_OF_YEAR);
+        return today0().contains(date.getTime());
     }
 
     /**
@@ -114,6 +147,41 @@ public class DateUtil {
      * @return Today's date at 00:00:00
      */
     public static Date today() {
-        return stripTime(new Date());
+        return new Date(today0().start);
+    }
+
+    /**
+     * Get the bounds of the current day, rolling over to a new day when needed
+     */
+    private static DayBounds today0() {
+        long now = System.currentTimeMillis();
+        DayBounds day = currentDay;
+        if (day == null || !day.contains(now)) {
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(now), ZONE);
+            day = new DayBounds(startOfDayMillis(date), startOfDayMillis(date.plusDays(1)));
+            currentDay = day;
+        }
+        return day;
+    }
+
+    private static long startOfDayMillis(LocalDate date) {
+        return date.atStartOfDay(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Half-open [start, end) interval covering one calendar day
+     */
+    private static final class DayBounds {
+        private final long start;
+        private final long end;
+
+        private DayBounds(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean contains(long millis) {
+            return millis >= start && millis < end;
+        }
     }
-}
\ No newline at end of file
+}
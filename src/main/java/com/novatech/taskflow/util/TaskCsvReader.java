@@ -0,0 +1,114 @@
+package com.novatech.taskflow.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental CSV parser (RFC 4180).
+ * Reads one record at a time, so memory use is bounded by the longest record rather
+ * than by the size of the input. Quoted fields may contain commas, doubled quotes
+ * and line breaks.
+ */
+public class TaskCsvReader {
+
+    private final Reader in;
+    private final int maxRecordLength;
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = -1;
+
+    /**
+     * Constructor
+     * @param in The input
+     * @param maxRecordLength The most characters a record may have
+     */
+    public TaskCsvReader(Reader in, int maxRecordLength) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Read the next record
+     * @return The fields of the record, or null at the end of the input
+     * @throws IllegalArgumentException if a quoted field is not closed or the record is too long;
+     *         the reader cannot continue after this
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            if (++length > maxRecordLength) {
+                throw new IllegalArgumentException("Record is longer than " + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+
+            c = read();
+        }
+    }
+
+    /**
+     * @return The line number on which the last record returned started, counting from 1
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,77 @@
+package com.novatech.taskflow.util;
+
+import com.novatech.taskflow.model.Task;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming CSV serializer for tasks (RFC 4180).
+ * Writes one row per task directly to the underlying writer; the columns are
+ * the JSON field names so the file can be read back by TaskCsvReader.
+ */
+public class TaskCsvWriter {
+
+    /** Column names, in the order they are written */
+    public static final String[] COLUMNS =
+            {"id", "title", "description", "dueDate", "status", "createdAt", "updatedAt", "version"};
+
+    private final Writer out;
+
+    public TaskCsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write the header row
+     */
+    public void writeHeader() throws IOException {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(COLUMNS[i]);
+        }
+        out.write("\r\n");
+    }
+
+    /**
+     * Write one task as a row
+     * @param task The task to write
+     */
+    public void writeTask(Task task) throws IOException {
+        out.write(String.valueOf(task.getId()));
+        writeField(task.getTitle());
+        writeField(task.getDescription());
+        writeField(DateUtil.formatDate(task.getDueDate()));
+        writeField(task.getStatus() != null ? task.getStatus().name() : null);
+        writeField(DateUtil.formatDateTime(task.getCreatedAt()));
+        writeField(DateUtil.formatDateTime(task.getUpdatedAt()));
+        writeField(task.getVersion() != null ? String.valueOf(task.getVersion()) : null);
+        out.write("\r\n");
+    }
+
+    /**
+     * Write a comma and the value, quoted only when it contains a separator, quote or line break
+     */
+    private void writeField(String value) throws IOException {
+        out.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,116 @@
+package com.novatech.taskflow.util;
+
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskField;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Streaming JSON serializer for tasks.
+ * Writes directly to the underlying writer without building an intermediate
+ * JSONObject tree or a String of the whole document.
+ */
+public class TaskJsonWriter {
+
+    private final Writer out;
+    private final Set<TaskField> fields;
+    private boolean firstElement = true;
+
+    public TaskJsonWriter(Writer out) {
+        this(out, TaskField.ALL);
+    }
+
+    /**
+     * Constructor for a writer that only emits some fields; the id is always written
+     * @param out The destination
+     * @param fields The fields to write
+     */
+    public TaskJsonWriter(Writer out, Set<TaskField> fields) {
+        this.out = out;
+        this.fields = fields;
+    }
+
+    /**
+     * Start a JSON array
+     */
+    public void beginArray() throws IOException {
+        out.write('[');
+        firstElement = true;
+    }
+
+    /**
+     * Write one task as the next element of the current array
+     * @param task The task to write
+     */
+    public void writeElement(Task task) throws IOException {
+        if (!firstElement) {
+            out.write(',');
+        }
+        firstElement = false;
+        writeTask(task);
+    }
+
+    /**
+     * Close the current array
+     */
+    public void endArray() throws IOException {
+        out.write(']');
+    }
+
+    /**
+     * Write a list of tasks as a complete JSON array
+     * @param tasks The tasks to write
+     */
+    public void writeArray(Iterable<Task> tasks) throws IOException {
+        beginArray();
+        for (Task task : tasks) {
+            writeElement(task);
+        }
+        endArray();
+    }
+
+    /**
+     * Write a single task as a JSON object
+     * @param task The task to write
+     */
+    public void writeTask(Task task) throws IOException {
+        out.write("{\"id\":");
+        out.write(String.valueOf(task.getId()));
+        if (fields.contains(TaskField.TITLE)) {
+            writeField("title", task.getTitle());
+        }
+        if (fields.contains(TaskField.DESCRIPTION)) {
+            writeField("description", task.getDescription() != null ? task.getDescription() : "");
+        }
+        if (fields.contains(TaskField.DUE_DATE)) {
+            writeField("dueDate", DateUtil.formatDate(task.getDueDate()));
+        }
+        if (fields.contains(TaskField.STATUS)) {
+            writeField("status", task.getStatus().name());
+        }
+        if (fields.contains(TaskField.CREATED_AT)) {
+            writeField("createdAt", DateUtil.formatDateTime(task.getCreatedAt()));
+        }
+        if (fields.contains(TaskField.UPDATED_AT)) {
+            writeField("updatedAt", DateUtil.formatDateTime(task.getUpdatedAt()));
+        }
+        if (fields.contains(TaskField.VERSION)) {
+            out.write(",\"version\":");
+            out.write(String.valueOf(task.getVersion()));
+        }
+        out.write('}');
+    }
+
+    /**
+     * Write a ,"name":"value" pair with the value escaped as a JSON string
+     */
+    private void writeField(String name, String value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        JSONObject.quote(value, out);
+    }
+}
@@ -17,16 +17,16 @@ CREATE INDEX idx_task_due_date ON tasks (due_date);
 INSERT INTO tasks (title, description, due_date, status, created_at, updated_at)
 VALUES
 ('Complete project proposal', 'Draft the initial project proposal document with timeline and resource requirements',
- DATEADD('DAY', 3, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+ TIMESTAMPADD(DAY, 3, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 
 ('Review client requirements', 'Go through the client requirements document and make notes for the next meeting',
- DATEADD('DAY', 1, CURRENT_DATE), 'IN_PROGRESS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+ TIMESTAMPADD(DAY, 1, CURRENT_DATE), 'IN_PROGRESS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 
 ('Set up development environment', 'Install and configure all necessary tools and frameworks for the project',
- DATEADD('DAY', -1, CURRENT_DATE), 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+ TIMESTAMPADD(DAY, -1, CURRENT_DATE), 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 
 ('Weekly team meeting', 'Prepare agenda and conduct weekly progress review with the development team',
- DATEADD('DAY', 2, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+ TIMESTAMPADD(DAY, 2, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 
 ('Database schema design', 'Create the database schema based on the finalized requirements',
- DATEADD('DAY', 5, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
\ No newline at end of file
+ TIMESTAMPADD(DAY, 5, CURRENT_DATE), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
\ No newline at end of file
@@ -0,0 +1,2 @@
+-- Composite index for open-task range queries (overdue, due today)
+CREATE INDEX idx_task_status_due_date ON tasks (status, due_date);
@@ -0,0 +1,2 @@
+-- Row version for optimistic concurrency control; bumped by every UPDATE
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
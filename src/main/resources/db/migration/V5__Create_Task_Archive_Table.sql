@@ -0,0 +1,20 @@
+-- Finished tasks older than archive.minAgeDays are moved here by the archiver, so the
+-- tasks table and its indexes only hold the live working set. Rows keep their original id.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id BIGINT NOT NULL PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description TEXT,
+    due_date TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Streaming archived tasks in the same (due_date, id) order as live ones
+CREATE INDEX idx_task_archive_due_date_id ON tasks_archive (due_date, id);
+CREATE INDEX idx_task_archive_status_due_date_id ON tasks_archive (status, due_date, id);
+
+-- Finding the next chunk to archive: finished status, last changed before the cutoff
+CREATE INDEX idx_task_status_updated_at ON tasks (status, updated_at);
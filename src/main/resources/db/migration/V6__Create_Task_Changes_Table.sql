@@ -0,0 +1,8 @@
+-- Table-level change version behind the ETag of task collection responses. Every
+-- TaskDAO write bumps it in its own transaction, so reading it is one primary-key lookup.
+CREATE TABLE task_changes (
+    id INT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO task_changes (id, version) VALUES (1, 0);
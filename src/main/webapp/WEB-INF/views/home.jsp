@@ -51,7 +51,7 @@
         </section>
 
         <section class="tasks-section overdue-tasks">
-            <h3>Overdue Tasks <span class="task-count">${overdueTasks.size()}</span></h3>
+            <h3>Overdue Tasks <span class="task-count">${overdueCount}</span></h3>
             <div class="task-list">
                 <c:choose>
                     <c:when test="${empty overdueTasks}">
@@ -91,7 +91,7 @@
         </section>
 
         <section class="tasks-section today-tasks">
-            <h3>Due Today <span class="task-count">${todayTasks.size()}</span></h3>
+            <h3>Due Today <span class="task-count">${todayCount}</span></h3>
             <div class="task-list">
                 <c:choose>
                     <c:when test="${empty todayTasks}">
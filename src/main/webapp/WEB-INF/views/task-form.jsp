@@ -33,6 +33,9 @@
 
         <section class="form-container">
             <form id="taskForm" action="${pageContext.request.contextPath}/tasks${empty task ? '' : '/'.concat(task.id)}" method="POST" onsubmit="return validateForm()">
+                <c:if test="${not empty task}">
+                    <input type="hidden" name="version" value="${task.version}">
+                </c:if>
 
                 <div class="form-group">
                     <label for="title">Title <span class="required">*</span></label>
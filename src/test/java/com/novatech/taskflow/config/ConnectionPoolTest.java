@@ -0,0 +1,187 @@
+package com.novatech.taskflow.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionPoolTest {
+
+    private static final String URL = "jdbc:pooltest:db";
+    private static final MockDriver DRIVER = new MockDriver();
+
+    private ConnectionPool pool;
+
+    @BeforeAll
+    static void registerDriver() throws SQLException {
+        DriverManager.registerDriver(DRIVER);
+    }
+
+    @AfterAll
+    static void deregisterDriver() throws SQLException {
+        DriverManager.deregisterDriver(DRIVER);
+    }
+
+    @BeforeEach
+    void setUp() {
+        DRIVER.connections.clear();
+        Properties config = new Properties();
+        config.setProperty("pool.minSize", "0");
+        config.setProperty("pool.maxSize", "1");
+        config.setProperty("pool.acquireTimeoutMs", "100");
+        config.setProperty("pool.statementCacheSize", "0");
+        config.setProperty("pool.housekeepingIntervalMs", "600000");
+        pool = new ConnectionPool(URL, new Properties(), config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void exhaustedPoolTimesOutUntilAConnectionIsReturned() throws SQLException {
+        Connection first = pool.getConnection();
+
+        long start = System.currentTimeMillis();
+        assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+        assertTrue(System.currentTimeMillis() - start >= 90, "should wait for the acquire timeout");
+
+        first.close();
+        try (Connection second = pool.getConnection()) {
+            assertEquals(1, pool.getStats().getActive());
+        }
+        assertEquals(1, DRIVER.connections.size(), "the physical connection should be reused");
+    }
+
+    @Test
+    void connectionBrokenDuringLeaseIsEvicted() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement statement = conn.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.execute("SELECT 1"));
+        }
+
+        Connection broken = DRIVER.connections.get(0);
+        verify(broken).close();
+        assertEquals(0, pool.getStats().getTotal());
+
+        try (Connection conn = pool.getConnection()) {
+            assertEquals(2, DRIVER.connections.size(), "a new physical connection should be opened");
+        }
+    }
+
+    @Test
+    void nonConnectionErrorKeepsConnectionPooled() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            assertThrows(SQLException.class, () -> conn.prepareStatement("SELEC 1"));
+        }
+
+        verify(DRIVER.connections.get(0), never()).close();
+        assertEquals(1, pool.getStats().getIdle());
+    }
+
+    @Test
+    void closingALeaseTwiceReturnsItOnce() throws SQLException {
+        Connection conn = pool.getConnection();
+        conn.close();
+        conn.close();
+
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+        assertEquals(0, pool.getStats().getActive());
+        assertEquals(1, pool.getStats().getIdle());
+
+        // A second permit would let two leases out of a pool of one
+        try (Connection leased = pool.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+        }
+    }
+
+    @Test
+    void statementReturnsTheLeasedConnection() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement statement = conn.createStatement()) {
+            assertSame(conn, statement.getConnection());
+        }
+    }
+
+    /**
+     * Driver handing out mock connections whose statements fail with a link failure
+     */
+    private static final class MockDriver implements Driver {
+        private final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Connection connect(String url, Properties info) throws SQLException {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            Connection connection = mock(Connection.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.isValid(anyInt())).thenReturn(true);
+
+            Statement statement = mock(Statement.class);
+            when(statement.execute(anyString())).thenThrow(new SQLException("Communications link failure", "08S01"));
+            when(connection.createStatement()).thenReturn(statement);
+            when(connection.prepareStatement(anyString())).thenThrow(new SQLException("Syntax error", "42000"));
+
+            connections.add(connection);
+            return connection;
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return URL.equals(url);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.novatech.taskflow.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MigrationRunnerTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL", "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void freshDatabaseGetsEveryScriptOnce() throws Exception {
+        int applied = new MigrationRunner(connection, 0).migrate();
+
+        List<Integer> versions = versions();
+        assertEquals(versions.size(), applied);
+        assertEquals(1, (int) versions.get(0));
+        for (int i = 1; i < versions.size(); i++) {
+            assertEquals(versions.get(i - 1) + 1, (int) versions.get(i), "versions should be contiguous");
+        }
+        assertEquals(5, count("SELECT COUNT(*) FROM tasks"), "V1 sample data should be loaded");
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks WHERE version <> 0"), "V3 should add the version column");
+
+        assertEquals(0, new MigrationRunner(connection, 0).migrate());
+    }
+
+    @Test
+    void existingSchemaWithoutHistoryRequiresBaseline() throws Exception {
+        execute("CREATE TABLE tasks (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(100) NOT NULL, "
+                + "description TEXT, due_date TIMESTAMP NOT NULL, status VARCHAR(20) NOT NULL DEFAULT 'PENDING', "
+                + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                + "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+        execute("CREATE INDEX idx_task_status ON tasks (status)");
+        execute("CREATE INDEX idx_task_due_date ON tasks (due_date)");
+
+        SQLException e = assertThrows(SQLException.class, () -> new MigrationRunner(connection, 0).migrate());
+        assertTrue(e.getMessage().contains("baselineVersion"));
+
+        int applied = new MigrationRunner(connection, 1).migrate();
+
+        assertEquals(versions().size() - 1, applied);
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks"), "V1 is part of the baseline and must not run");
+        assertEquals(0, count("SELECT COUNT(*) FROM schema_history WHERE version = 1 AND execution_ms <> 0"));
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks WHERE version <> 0"), "V3 should have run");
+    }
+
+    @Test
+    void changedScriptIsNotRunAgain() throws Exception {
+        new MigrationRunner(connection, 0).migrate();
+        execute("UPDATE schema_history SET checksum = 42 WHERE version = 1");
+
+        assertEquals(0, new MigrationRunner(connection, 0).migrate());
+        assertEquals(5, count("SELECT COUNT(*) FROM tasks"));
+        assertEquals(42, count("SELECT checksum FROM schema_history WHERE version = 1"));
+    }
+
+    @Test
+    void failedScriptIsNotRecorded() throws Exception {
+        new MigrationRunner(connection, 0).migrate();
+        int last = versions().get(versions().size() - 1);
+        execute("DELETE FROM schema_history WHERE version = " + last);
+
+        // The script's objects already exist, so running it again fails
+        SQLException e = assertThrows(SQLException.class, () -> new MigrationRunner(connection, 0).migrate());
+        assertTrue(e.getMessage().startsWith("Migration V" + last + "__"));
+        assertEquals(last - 1, versions().size());
+    }
+
+    private List<Integer> versions() throws SQLException {
+        List<Integer> versions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT version FROM schema_history ORDER BY version")) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.novatech.taskflow.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between embedded H2 databases that each know their own name
+ */
+class ReplicaRouterTest {
+
+    private static final long STICKY_MS = 60_000;
+    private static final long RETRY_MS = 60_000;
+
+    private ReplicaRouter router;
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouter.bindClient(null);
+        if (router != null) {
+            router.close();
+        }
+    }
+
+    @Test
+    void writesGoToThePrimaryAndReadsToTheReplica() throws SQLException {
+        router = new ReplicaRouter(database("primary"), Collections.singletonList(database("replica")), STICKY_MS, RETRY_MS);
+
+        try (Connection conn = router.getPrimaryConnection(); Statement statement = conn.createStatement()) {
+            statement.executeUpdate("INSERT INTO writes VALUES (1)");
+        }
+
+        assertEquals("replica", readFrom(router));
+        assertEquals(1, count(router.getPrimaryConnection()));
+        assertEquals(0, count(router.getReadConnection()));
+    }
+
+    @Test
+    void clientReadsFromThePrimaryAfterItsOwnWrite() throws SQLException {
+        router = new ReplicaRouter(database("primary"), Collections.singletonList(database("replica")), STICKY_MS, RETRY_MS);
+
+        ReplicaRouter.bindClient("writer");
+        assertEquals("replica", readFrom(router));
+        router.recordWrite();
+        assertEquals("primary", readFrom(router));
+
+        ReplicaRouter.bindClient("someone-else");
+        assertEquals("replica", readFrom(router));
+
+        ReplicaRouter.bindClient(null);
+        router.recordWrite();
+        assertEquals("replica", readFrom(router), "unbound writes cannot make anyone sticky");
+    }
+
+    @Test
+    void stickinessEndsAfterTheWindow() throws Exception {
+        router = new ReplicaRouter(database("primary"), Collections.singletonList(database("replica")), 50, RETRY_MS);
+
+        ReplicaRouter.bindClient("writer");
+        router.recordWrite();
+        assertEquals("primary", readFrom(router));
+        Thread.sleep(80);
+        assertEquals("replica", readFrom(router));
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheReplicaIsDown() throws SQLException {
+        router = new ReplicaRouter(database("primary"), Collections.singletonList(unreachable()), STICKY_MS, RETRY_MS);
+
+        assertEquals("primary", readFrom(router));
+        assertEquals(0, router.getAvailableReplicaCount());
+        assertEquals("primary", readFrom(router));
+    }
+
+    @Test
+    void downReplicaIsSkippedForTheOthers() throws SQLException {
+        router = new ReplicaRouter(database("primary"), Arrays.asList(unreachable(), database("replica")),
+                STICKY_MS, RETRY_MS);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica", readFrom(router));
+        }
+        assertEquals(1, router.getAvailableReplicaCount());
+    }
+
+    @Test
+    void boundClientStaysOnOneReplica() throws SQLException {
+        router = new ReplicaRouter(database("primary"), Arrays.asList(database("replica-a"), database("replica-b")),
+                STICKY_MS, RETRY_MS);
+
+        Set<String> unbound = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            unbound.add(readFrom(router));
+        }
+        assertEquals(2, unbound.size(), "unbound reads should be spread over both replicas");
+
+        ReplicaRouter.bindClient("client");
+        String first = readFrom(router);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(first, readFrom(router));
+        }
+    }
+
+    /**
+     * Create an in-memory database that answers SELECT name FROM whoami with its name
+     */
+    private ConnectionPool database(String name) throws SQLException {
+        ConnectionPool pool = pool("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection conn = pool.getConnection(); Statement statement = conn.createStatement()) {
+            statement.execute("CREATE TABLE whoami (name VARCHAR(20))");
+            statement.execute("INSERT INTO whoami VALUES ('" + name + "')");
+            statement.execute("CREATE TABLE writes (id INT)");
+        }
+        return pool;
+    }
+
+    private ConnectionPool unreachable() {
+        return pool("jdbc:h2:tcp://127.0.0.1:1/unreachable");
+    }
+
+    private ConnectionPool pool(String url) {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", "sa");
+        connectionProperties.setProperty("password", "");
+        Properties config = new Properties();
+        config.setProperty("pool.minSize", "0");
+        config.setProperty("pool.maxSize", "2");
+        config.setProperty("pool.acquireTimeoutMs", "1000");
+        return new ConnectionPool(url, connectionProperties, config);
+    }
+
+    private static String readFrom(ReplicaRouter router) throws SQLException {
+        try (Connection conn = router.getReadConnection();
+             Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM whoami")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static long count(Connection connection) throws SQLException {
+        try (Connection conn = connection;
+             Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM writes")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
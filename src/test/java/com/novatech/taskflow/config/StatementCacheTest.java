@@ -0,0 +1,161 @@
+package com.novatech.taskflow.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCacheTest {
+
+    private static final Method PREPARE;
+    private static final Method PREPARE_WITH_KEYS;
+
+    static {
+        try {
+            PREPARE = Connection.class.getMethod("prepareStatement", String.class);
+            PREPARE_WITH_KEYS = Connection.class.getMethod("prepareStatement", String.class, int.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final List<PreparedStatement> prepared = new ArrayList<>();
+    private Connection connection;
+    private Connection owner;
+    private StatementCache cache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        owner = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> newStatement());
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(invocation -> newStatement());
+        cache = new StatementCache(2, hits, misses, evictions);
+    }
+
+    @Test
+    void closedStatementIsReusedAndReset() throws SQLException {
+        PreparedStatement first = prepare("SELECT 1");
+        first.setLong(1, 7);
+        first.setFetchSize(100);
+        first.close();
+
+        PreparedStatement second = prepare("SELECT 1");
+
+        assertEquals(1, prepared.size());
+        assertEquals(1, hits.sum());
+        assertEquals(1, misses.sum());
+        PreparedStatement physical = prepared.get(0);
+        verify(physical).clearParameters();
+        verify(physical).setFetchSize(0);
+        verify(physical, never()).close();
+        assertSame(owner, second.getConnection());
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, () -> first.setLong(1, 8));
+    }
+
+    @Test
+    void prepareOptionsArePartOfTheKey() throws SQLException {
+        prepare("INSERT INTO t VALUES (1)").close();
+        cache.prepare(connection, owner, PREPARE_WITH_KEYS,
+                new Object[]{"INSERT INTO t VALUES (1)", Statement.RETURN_GENERATED_KEYS}).close();
+
+        assertEquals(2, prepared.size());
+        assertEquals(0, hits.sum());
+    }
+
+    @Test
+    void sameSqlOpenTwiceGetsASecondStatementThatIsNotKept() throws SQLException {
+        PreparedStatement outer = prepare("SELECT 1");
+        PreparedStatement inner = prepare("SELECT 1");
+        inner.close();
+
+        verify(prepared.get(1)).close();
+        verify(prepared.get(0), never()).close();
+        outer.close();
+        prepare("SELECT 1");
+        assertEquals(1, hits.sum());
+    }
+
+    @Test
+    void leastRecentlyUsedStatementIsEvicted() throws SQLException {
+        prepare("SELECT 1").close();
+        prepare("SELECT 2").close();
+        prepare("SELECT 1").close();
+        prepare("SELECT 3").close();
+
+        assertEquals(1, evictions.sum());
+        verify(prepared.get(1)).close();
+        verify(prepared.get(0), never()).close();
+        verify(prepared.get(2), never()).close();
+    }
+
+    @Test
+    void statementInUseIsClosedOnlyWhenReturned() throws SQLException {
+        PreparedStatement inUse = prepare("SELECT 1");
+        prepare("SELECT 2").close();
+        prepare("SELECT 3").close();
+
+        assertEquals(1, evictions.sum());
+        verify(prepared.get(0), never()).close();
+        inUse.close();
+        verify(prepared.get(0)).close();
+    }
+
+    @Test
+    void closeReleasesEveryCachedStatement() throws SQLException {
+        prepare("SELECT 1").close();
+        PreparedStatement inUse = prepare("SELECT 2");
+
+        cache.close();
+
+        verify(prepared.get(0)).close();
+        verify(prepared.get(1), never()).close();
+        inUse.close();
+        verify(prepared.get(1)).close();
+
+        prepare("SELECT 1");
+        assertEquals(3, prepared.size(), "nothing should be reused after close");
+    }
+
+    @Test
+    void onlyPlainPrepareCallsAreCacheable() {
+        assertTrue(StatementCache.isCacheable(new Object[]{"SELECT 1"}));
+        assertTrue(StatementCache.isCacheable(new Object[]{"SELECT 1", 1, 2}));
+        assertFalse(StatementCache.isCacheable(new Object[]{"SELECT 1", new String[]{"id"}}));
+        assertFalse(StatementCache.isCacheable(new Object[]{"SELECT 1", 1, 2, 3}));
+        assertFalse(StatementCache.isCacheable(null));
+    }
+
+    private PreparedStatement prepare(String sql) throws SQLException {
+        return cache.prepare(connection, owner, PREPARE, new Object[]{sql});
+    }
+
+    private PreparedStatement newStatement() {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        prepared.add(statement);
+        return statement;
+    }
+}
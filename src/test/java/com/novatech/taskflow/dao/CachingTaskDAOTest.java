@@ -0,0 +1,85 @@
+package com.novatech.taskflow.dao;
+
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingTaskDAOTest {
+
+    private TaskDAO delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TaskDAO.class);
+        when(delegate.getById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return new Task(id, "Task " + id, null, null, TaskStatus.PENDING);
+        });
+    }
+
+    @Test
+    void repeatedLookupIsServedFromTheCacheAsACopy() {
+        CachingTaskDAO cache = new CachingTaskDAO(delegate, 10, 60);
+
+        Task first = cache.getById(1L);
+        first.setTitle("changed by caller");
+        Task second = cache.getById(1L);
+
+        verify(delegate, times(1)).getById(1L);
+        assertEquals("Task 1", second.getTitle());
+        assertNotSame(first, second);
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    void writeInvalidatesTheCachedTask() {
+        CachingTaskDAO cache = new CachingTaskDAO(delegate, 10, 60);
+
+        cache.getById(1L);
+        cache.updateStatus(1L, TaskStatus.COMPLETED);
+        cache.getById(1L);
+
+        verify(delegate, times(2)).getById(1L);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        CachingTaskDAO cache = new CachingTaskDAO(delegate, 10, 0);
+
+        cache.getById(1L);
+        cache.getById(1L);
+
+        verify(delegate, times(2)).getById(1L);
+        assertEquals(1, cache.getStats().getExpirations());
+    }
+
+    @Test
+    void leastRecentlyReadEntriesAreEvictedPastTheBound() throws InterruptedException {
+        CachingTaskDAO cache = new CachingTaskDAO(delegate, 10, 60);
+
+        for (long id = 1; id <= 10; id++) {
+            cache.getById(id);
+            Thread.sleep(1);
+        }
+        cache.getById(1L);
+        cache.getById(11L);
+
+        CacheStats stats = cache.getStats();
+        assertEquals(9, stats.getSize());
+        assertEquals(2, stats.getEvictions());
+        cache.getById(1L);
+        verify(delegate, times(1)).getById(1L);
+        cache.getById(2L);
+        verify(delegate, times(2)).getById(2L);
+    }
+}
@@ -0,0 +1,46 @@
+package com.novatech.taskflow.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCursorTest {
+
+    @Test
+    void decodeReturnsTheEncodedPosition() {
+        Task task = new Task(42L, "Title", null, new Date(1_700_000_123_456L), TaskStatus.PENDING);
+
+        PageCursor decoded = PageCursor.decode(PageCursor.after(task).encode());
+
+        assertEquals(task.getDueDate(), decoded.getDueDate());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new PageCursor(new Date(Long.MAX_VALUE), Long.MAX_VALUE).encode();
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a cursor!", "%%%", "MTIz"})
+    void malformedTokensAreRejected(String token) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123", "abc:1", "123:abc", "123:", ":5", "1:2:3", "99999999999999999999:1"})
+    void tamperedPayloadsAreRejected(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token));
+    }
+}
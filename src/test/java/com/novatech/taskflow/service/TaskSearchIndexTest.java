@@ -0,0 +1,120 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+        index.index(task(1L, "Quarterly budget review", "Check spending against the plan"));
+        index.index(task(2L, "Team offsite", "Book a venue and review the agenda"));
+        index.index(task(3L, "Database migration", "Move the budget tables to the new schema"));
+    }
+
+    @Test
+    void exactTermsMatchWithAndSemantics() {
+        assertEquals(Arrays.asList(2L), index.search("venue agenda", 10));
+        assertEquals(Collections.emptyList(), index.search("venue budget", 10));
+        assertEquals(Collections.emptyList(), index.search("the and of", 10));
+    }
+
+    @Test
+    void prefixMatchesLongerTerms() {
+        assertEquals(Arrays.asList(3L), index.search("migr", 10));
+        assertEquals(Arrays.asList(2L), index.search("offs", 10));
+    }
+
+    @Test
+    void misspelledTermsMatchApproximately() {
+        assertEquals(Arrays.asList(3L), index.search("databse", 10));
+        assertEquals(Arrays.asList(2L), index.search("ofsite", 10));
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        assertEquals(Arrays.asList(1L, 3L), index.search("budget", 10));
+        assertEquals(Arrays.asList(1L, 2L), index.search("review", 10));
+        assertEquals(Arrays.asList(1L), index.search("budget", 1));
+    }
+
+    @Test
+    void updatesReplaceOldTerms() {
+        index.index(task(1L, "Annual forecast", null));
+
+        assertEquals(Arrays.asList(3L), index.search("budget", 10));
+        assertEquals(Arrays.asList(1L), index.search("forecast", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void removedTasksNoLongerMatch() {
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(Collections.emptyList(), index.search("venue", 10));
+        assertEquals(Arrays.asList(1L), index.search("review", 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void staleEntriesAreCompactedAway() throws Exception {
+        for (long id = 100; id < 1200; id++) {
+            index.index(task(id, "old" + id, null));
+        }
+        for (long id = 100; id < 1200; id++) {
+            index.index(task(id, "new" + id, null));
+        }
+
+        assertTrue(getLong("staleEntries") < 1024, "stale postings should have been compacted");
+        assertEquals(countTerms(), getLong("liveEntries"));
+        assertEquals(Collections.emptyList(), index.search("old150", 10));
+        assertEquals(Arrays.asList(150L), index.search("new150", 10));
+
+        for (long id = 100; id < 1200; id++) {
+            index.remove(id);
+        }
+
+        assertTrue(getLong("staleEntries") < 1024, "removed postings should have been compacted");
+        assertEquals(countTerms(), getLong("liveEntries"));
+        assertEquals(Arrays.asList(1L, 3L), index.search("budget", 10));
+    }
+
+    private long countTerms() throws Exception {
+        Field docsField = TaskSearchIndex.class.getDeclaredField("docs");
+        docsField.setAccessible(true);
+        long terms = 0;
+        for (Object doc : ((Map<?, ?>) docsField.get(index)).values()) {
+            Field termsField = doc.getClass().getDeclaredField("terms");
+            termsField.setAccessible(true);
+            terms += ((String[]) termsField.get(doc)).length;
+        }
+        return terms;
+    }
+
+    private long getLong(String name) throws Exception {
+        Field field = TaskSearchIndex.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.getLong(index);
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+}
@@ -0,0 +1,128 @@
+package com.novatech.taskflow.service;
+
+import com.novatech.taskflow.dao.TaskDAO;
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskWriteBehindQueueTest {
+
+    private final TaskDAO taskDAO = mock(TaskDAO.class);
+    private final AtomicLong nextId = new AtomicLong(1);
+    private TaskWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void queuedTasksAreInsertedInBatches() throws Exception {
+        when(taskDAO.createAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        queue = new TaskWriteBehindQueue(taskDAO, 100, 50, 50, 1000);
+
+        List<CompletableFuture<Task>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(queue.submit(task("Task " + i)));
+        }
+
+        for (CompletableFuture<Task> future : futures) {
+            assertNotNull(future.get(5, TimeUnit.SECONDS).getId());
+        }
+        verify(taskDAO, atMost(2)).createAll(anyList());
+        assertEquals(0, queue.getQueuedCount());
+    }
+
+    @Test
+    void fullQueueRejectsAfterTheOfferTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskDAO.createAll(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return assignIds(invocation.getArgument(0));
+        });
+        queue = new TaskWriteBehindQueue(taskDAO, 2, 1, 0, 20);
+
+        CompletableFuture<Task> inFlight = queue.submit(task("in flight"));
+        while (queue.getQueuedCount() > 0) {
+            Thread.sleep(1);
+        }
+        queue.submit(task("queued 1"));
+        queue.submit(task("queued 2"));
+
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(task("one too many")));
+        release.countDown();
+        assertNotNull(inFlight.get(5, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    void shutdownInsertsTheTasksAlreadyQueued() throws Exception {
+        when(taskDAO.createAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        queue = new TaskWriteBehindQueue(taskDAO, 100, 5, 1000, 1000);
+
+        List<CompletableFuture<Task>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(queue.submit(task("Task " + i)));
+        }
+        queue.shutdown();
+
+        for (CompletableFuture<Task> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(task("late")));
+    }
+
+    @Test
+    void errorInTheCommitterFailsPendingTasksInsteadOfHangingThem() throws Exception {
+        CountDownLatch inInsert = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskDAO.createAll(anyList())).thenAnswer(invocation -> {
+            inInsert.countDown();
+            release.await();
+            throw new Error("driver crashed");
+        });
+        queue = new TaskWriteBehindQueue(taskDAO, 100, 1, 0, 1000);
+
+        CompletableFuture<Task> inFlight = queue.submit(task("in flight"));
+        inInsert.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Task> queued = queue.submit(task("queued"));
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> inFlight.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(task("late")));
+    }
+
+    private List<Task> assignIds(List<Task> tasks) {
+        for (Task task : tasks) {
+            task.setId(nextId.getAndIncrement());
+        }
+        return tasks;
+    }
+
+    private static Task task(String title) {
+        return new Task(null, title, null, null, TaskStatus.PENDING);
+    }
+}
@@ -0,0 +1,109 @@
+package com.novatech.taskflow.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateUtilTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @Test
+    void parseDateAcceptsPaddedAndUnpaddedFields() {
+        Date expected = date(LocalDate.of(2024, 2, 29));
+        assertEquals(expected, DateUtil.parseDate("2024-02-29"));
+        assertEquals(expected, DateUtil.parseDate(" 2024-2-29 "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-02-29", "2024-02-30", "2024-13-01", "2024-00-10", "24-01-01", "tomorrow", "", "  "})
+    void parseDateRejectsInvalidDates(String value) {
+        assertNull(DateUtil.parseDate(value));
+    }
+
+    @Test
+    void parseDateRejectsNull() {
+        assertNull(DateUtil.parseDate(null));
+    }
+
+    @Test
+    void parseDateTimeRoundTripsWithFormat() {
+        Date parsed = DateUtil.parseDateTime("2024-03-05 14:07:09");
+        assertEquals(date(LocalDateTime.of(2024, 3, 5, 14, 7, 9)), parsed);
+        assertEquals("2024-03-05 14:07:09", DateUtil.formatDateTime(parsed));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-03-05", "2024-03-05 24:00:00", "2024-02-30 10:00:00", "2024-03-05T14:07:09"})
+    void parseDateTimeRejectsInvalidValues(String value) {
+        assertNull(DateUtil.parseDateTime(value));
+    }
+
+    @Test
+    void formatHandlesNull() {
+        assertEquals("", DateUtil.formatDate(null));
+        assertEquals("", DateUtil.formatDateTime(null));
+    }
+
+    @Test
+    void stripTimeAndAddDaysUseCalendarDays() {
+        Date noon = date(LocalDateTime.of(2024, 6, 15, 12, 30));
+        assertEquals(date(LocalDate.of(2024, 6, 15)), DateUtil.stripTime(noon));
+        assertEquals(date(LocalDateTime.of(2024, 6, 18, 12, 30)), DateUtil.addDays(noon, 3));
+        assertEquals(date(LocalDateTime.of(2024, 6, 14, 12, 30)), DateUtil.addDays(noon, -1));
+    }
+
+    @Test
+    void todayBoundsAreHalfOpen() {
+        Date today = DateUtil.today();
+        Date tomorrow = DateUtil.addDays(today, 1);
+
+        assertEquals(date(LocalDate.now(ZONE)), today);
+        assertEquals(date(LocalDate.now(ZONE).plusDays(1)), tomorrow);
+        assertTrue(DateUtil.isToday(today));
+        assertTrue(DateUtil.isToday(new Date(tomorrow.getTime() - 1)));
+        assertFalse(DateUtil.isToday(tomorrow));
+        assertFalse(DateUtil.isToday(new Date(today.getTime() - 1)));
+    }
+
+    @Test
+    void cachedDayRollsOverOnceItHasPassed() throws Exception {
+        // Leave yesterday's bounds cached, as if the clock had just passed midnight
+        LocalDate yesterday = LocalDate.now(ZONE).minusDays(1);
+        setCurrentDay(date(yesterday).getTime(), date(yesterday.plusDays(1)).getTime());
+
+        assertEquals(date(LocalDate.now(ZONE)), DateUtil.today());
+        assertTrue(DateUtil.isToday(new Date()));
+        assertFalse(DateUtil.isToday(date(yesterday)));
+        assertEquals(date(LocalDate.now(ZONE).plusDays(1)), DateUtil.addDays(DateUtil.today(), 1));
+    }
+
+    private static void setCurrentDay(long start, long end) throws Exception {
+        Class<?> boundsClass = Class.forName(DateUtil.class.getName() + "$DayBounds");
+        Constructor<?> constructor = boundsClass.getDeclaredConstructor(long.class, long.class);
+        constructor.setAccessible(true);
+        Field field = DateUtil.class.getDeclaredField("currentDay");
+        field.setAccessible(true);
+        field.set(null, constructor.newInstance(start, end));
+    }
+
+    private static Date date(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZONE).toInstant());
+    }
+
+    private static Date date(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZONE).toInstant());
+    }
+}
@@ -0,0 +1,108 @@
+package com.novatech.taskflow.util;
+
+import com.novatech.taskflow.model.Task;
+import com.novatech.taskflow.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskCsvTest {
+
+    @Test
+    void writtenTasksReadBackUnchanged() throws IOException {
+        Task plain = task(1L, "Plain title", null);
+        Task tricky = task(2L, "Quotes \"here\", commas, too", "Line one\r\nLine two\nwith \"quote\", comma");
+
+        StringWriter out = new StringWriter();
+        TaskCsvWriter writer = new TaskCsvWriter(out);
+        writer.writeHeader();
+        writer.writeTask(plain);
+        writer.writeTask(tricky);
+
+        TaskCsvReader reader = new TaskCsvReader(new StringReader(out.toString()), 1024);
+        assertEquals(Arrays.asList(TaskCsvWriter.COLUMNS), reader.readRecord());
+
+        List<String> first = reader.readRecord();
+        assertEquals(2, reader.getRecordLine());
+        assertEquals("1", first.get(0));
+        assertEquals("Plain title", first.get(1));
+        assertEquals("", first.get(2));
+        assertEquals("2024-05-17", first.get(3));
+        assertEquals("IN_PROGRESS", first.get(4));
+        assertEquals("3", first.get(7));
+
+        List<String> second = reader.readRecord();
+        assertEquals(3, reader.getRecordLine());
+        assertEquals(TaskCsvWriter.COLUMNS.length, second.size());
+        assertEquals(tricky.getTitle(), second.get(1));
+        assertEquals(tricky.getDescription(), second.get(2));
+
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void fieldsAreQuotedOnlyWhenNeeded() throws IOException {
+        StringWriter out = new StringWriter();
+        new TaskCsvWriter(out).writeTask(task(7L, "a,b", "say \"hi\""));
+
+        assertEquals("7,\"a,b\",\"say \"\"hi\"\"\",2024-05-17,IN_PROGRESS,"
+                + DateUtil.formatDateTime(new Date(1_715_000_000_000L)) + ","
+                + DateUtil.formatDateTime(new Date(1_715_000_000_000L)) + ",3\r\n", out.toString());
+    }
+
+    @Test
+    void lineNumbersCountEmbeddedLineBreaks() throws IOException {
+        TaskCsvReader reader = new TaskCsvReader(new StringReader("a,\"x\ny\nz\"\nb,c\rd,e"), 1024);
+
+        assertEquals(Arrays.asList("a", "x\ny\nz"), reader.readRecord());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(Arrays.asList("b", "c"), reader.readRecord());
+        assertEquals(4, reader.getRecordLine());
+        assertEquals(Arrays.asList("d", "e"), reader.readRecord());
+        assertEquals(5, reader.getRecordLine());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void emptyFieldsAndTrailingCommaArePreserved() throws IOException {
+        TaskCsvReader reader = new TaskCsvReader(new StringReader(",\"\",x,\r\n"), 1024);
+
+        assertEquals(Arrays.asList("", "", "x", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void unterminatedQuoteIsAnError() throws IOException {
+        TaskCsvReader reader = new TaskCsvReader(new StringReader("id,title\r\n1,\"never closed\r\n2,next\r\n"), 1024);
+        reader.readRecord();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::readRecord);
+        assertEquals("Unterminated quoted field", e.getMessage());
+    }
+
+    @Test
+    void overlongRecordIsAnError() {
+        char[] longField = new char[100];
+        Arrays.fill(longField, 'x');
+        TaskCsvReader reader = new TaskCsvReader(new StringReader("1," + new String(longField) + "\r\n"), 50);
+
+        assertThrows(IllegalArgumentException.class, reader::readRecord);
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task(id, title, description, DateUtil.parseDate("2024-05-17"), TaskStatus.IN_PROGRESS);
+        task.setCreatedAt(new Date(1_715_000_000_000L));
+        task.setUpdatedAt(new Date(1_715_000_000_000L));
+        task.setVersion(3L);
+        return task;
+    }
+}